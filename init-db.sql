@@ -19,21 +19,29 @@ CREATE TABLE IF NOT EXISTS users (
   COLLATE=utf8mb4_unicode_ci;              -- 정렬 규칙: 대소문자 구분 없음
 
 
+-- 식당/찜 id 시퀀스 (JDBC 배치 INSERT를 위해 AUTO_INCREMENT 대신 사용)
+-- 네이티브 INSERT의 NEXT VALUE FOR와 공유하므로 1씩 증가 (엔티티 allocationSize = 1과 맞춤)
+CREATE SEQUENCE IF NOT EXISTS restaurants_seq START WITH 1 INCREMENT BY 1;
+CREATE SEQUENCE IF NOT EXISTS restaurant_likes_seq START WITH 1 INCREMENT BY 1;
+
 -- 식당(restaurants) 테이블 생성
 CREATE TABLE IF NOT EXISTS restaurants (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,          -- 우리 서비스 내부 ID
+    id BIGINT PRIMARY KEY,                         -- 우리 서비스 내부 ID (restaurants_seq)
     kakao_id VARCHAR(50) NOT NULL UNIQUE,          -- 카카오 맵 API의 장소 ID (유니크)
     name VARCHAR(255) NOT NULL,                    -- 식당 이름
     category VARCHAR(255),                         -- 카테고리
     phone VARCHAR(50),                             -- 전화번호
     address VARCHAR(255),                          -- 지번 주소
     road_address VARCHAR(255),                     -- 도로명 주소
-    x_coordinate VARCHAR(50),                      -- 경도 (X)
-    y_coordinate VARCHAR(50),                      -- 위도 (Y)
+    longitude DOUBLE,                              -- 경도 (X)
+    latitude DOUBLE,                               -- 위도 (Y)
     place_url VARCHAR(500),                        -- 카카오 플레이스 URL
+    like_count BIGINT NOT NULL DEFAULT 0,          -- 찜한 사용자 수 (주기적으로 일괄 반영)
     created_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6), -- 생성일
     updated_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6), -- 수정일
-    INDEX idx_kakao_id (kakao_id)                  -- 카카오 ID로 빠른 조회
+    INDEX idx_kakao_id (kakao_id),                 -- 카카오 ID로 빠른 조회
+    INDEX idx_restaurants_like_count (like_count), -- 찜 수 집계 로드 (like_count > 0)
+    INDEX idx_restaurants_lat_lng (latitude, longitude) -- 주변 식당 조회 (bounding box)
 ) ENGINE=InnoDB
   DEFAULT CHARSET=utf8mb4
   COLLATE=utf8mb4_unicode_ci;
@@ -41,14 +49,27 @@ CREATE TABLE IF NOT EXISTS restaurants (
 
 -- 식당 좋아요(restaurant_likes) 테이블 생성
 CREATE TABLE IF NOT EXISTS restaurant_likes (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,          -- 좋아요 고유 ID
+    id BIGINT PRIMARY KEY,                         -- 좋아요 고유 ID (restaurant_likes_seq)
     user_id BIGINT NOT NULL,                       -- 사용자 ID (FK)
     restaurant_id BIGINT NOT NULL,                 -- 식당 ID (FK)
     created_at DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6), -- 생성일
     
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (restaurant_id) REFERENCES restaurants(id) ON DELETE CASCADE,
-    UNIQUE KEY uk_user_restaurant (user_id, restaurant_id) -- 유저는 같은 식당을 중복해서 찜할 수 없음
+    UNIQUE KEY uk_user_restaurant (user_id, restaurant_id), -- 유저는 같은 식당을 중복해서 찜할 수 없음
+    INDEX idx_likes_user_created (user_id, created_at, id) -- 사용자별 찜 목록 (최근순 키셋 페이지네이션)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci;
+
+-- 카카오 검색 결과 캐시(search_cache) 테이블 생성 (인스턴스 간 공유 2차 캐시)
+CREATE TABLE IF NOT EXISTS search_cache (
+    query_key VARCHAR(255) PRIMARY KEY,            -- 정규화된 검색어
+    payload MEDIUMBLOB NOT NULL,                   -- 식당 목록 JSON (gzip 압축)
+    result_count INT NOT NULL,                     -- 식당 수
+    fetched_at DATETIME(6) NOT NULL,               -- 카카오에서 조회한 시각
+    expires_at DATETIME(6) NOT NULL,               -- 만료 시각
+    INDEX idx_search_cache_expires (expires_at)    -- 만료 행 정리
 ) ENGINE=InnoDB
   DEFAULT CHARSET=utf8mb4
   COLLATE=utf8mb4_unicode_ci;
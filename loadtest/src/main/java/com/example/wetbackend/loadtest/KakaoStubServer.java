@@ -0,0 +1,197 @@
+package com.example.wetbackend.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카카오 키워드 검색 API 스텁 서버
+ *
+ * GET /v2/local/search/keyword.json?query=..&page=..&size=.. 에 KakaoSearchResponse 형태의 응답을 반환합니다.
+ * 같은 검색어는 항상 같은 식당 목록(결정적)을 반환하므로 캐시/찜 시나리오를 반복할 수 있습니다.
+ *
+ * 서버 실행 시 kakao.api.url을 이 스텁으로 지정하세요:
+ * --kakao.api.url=http://localhost:18080/v2/local/search/keyword.json
+ */
+public class KakaoStubServer {
+
+    static final String PATH = "/v2/local/search/keyword.json";
+    private static final int KAKAO_MAX_PAGEABLE = 45;
+
+    private final int port;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+    private final int totalCount;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param latencyMs  응답 지연 (기본값)
+     * @param jitterMs   응답 지연에 더해지는 0 ~ jitterMs 임의 지연
+     * @param errorRate  500 오류를 반환할 비율 (0.0 ~ 1.0)
+     * @param totalCount 검색어당 전체 결과 수 (pageable_count는 최대 45)
+     */
+    public KakaoStubServer(int port, long latencyMs, long jitterMs, double errorRate, int totalCount) {
+        this.port = port;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+        this.totalCount = totalCount;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 1024);
+        // 지연 중인 요청이 스레드를 묶지 않도록 요청마다 가상 스레드 사용
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+        server.start();
+        System.out.printf("Kakao stub listening on http://localhost:%d%s (latency=%dms+%dms, errorRate=%.2f, totalCount=%d)%n",
+                port, PATH, latencyMs, jitterMs, errorRate, totalCount);
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long errorCount() {
+        return errors.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try (exchange) {
+            sleep();
+
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errors.increment();
+                send(exchange, 500, "{\"errorType\":\"InternalServerError\",\"message\":\"stub error\"}");
+                return;
+            }
+
+            Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+            String query = params.getOrDefault("query", "");
+            int page = Math.max(1, parseInt(params.get("page"), 1));
+            int size = Math.max(1, Math.min(15, parseInt(params.get("size"), 15)));
+            send(exchange, 200, body(query, page, size));
+        }
+    }
+
+    /**
+     * 검색어에서 결정적으로 만든 결과 페이지 (카카오 응답과 같은 필드 구성)
+     */
+    String body(String query, int page, int size) {
+        int pageable = Math.min(totalCount, KAKAO_MAX_PAGEABLE);
+        int from = (page - 1) * size;
+        int to = Math.min(from + size, pageable);
+        boolean isEnd = to >= pageable;
+
+        int seed = Math.floorMod(query.hashCode(), 10_000);
+        StringBuilder sb = new StringBuilder(512 + size * 512);
+        sb.append("{\"documents\":[");
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                sb.append(',');
+            }
+            String id = String.valueOf(10_000_000L + seed * 100L + i);
+            double x = 127.0 + (seed % 100) * 0.001 + i * 0.0002;
+            double y = 37.5 + (seed % 100) * 0.001 + i * 0.0001;
+            sb.append("{\"address_name\":\"서울 강남구 역삼동 ").append(600 + i).append("\",")
+                    .append("\"category_group_code\":\"FD6\",\"category_group_name\":\"음식점\",")
+                    .append("\"category_name\":\"").append(CATEGORIES[i % CATEGORIES.length]).append("\",")
+                    .append("\"distance\":\"\",")
+                    .append("\"id\":\"").append(id).append("\",")
+                    .append("\"phone\":\"02-555-").append(1000 + i).append("\",")
+                    .append("\"place_name\":\"스텁 식당 ").append(seed).append('-').append(i).append("\",")
+                    .append("\"place_url\":\"http://place.map.kakao.com/").append(id).append("\",")
+                    .append("\"road_address_name\":\"서울 강남구 테헤란로 ").append(100 + i).append("\",")
+                    .append("\"x\":\"").append(x).append("\",")
+                    .append("\"y\":\"").append(y).append("\"}");
+        }
+        sb.append("],\"meta\":{\"is_end\":").append(isEnd)
+                .append(",\"pageable_count\":").append(pageable)
+                .append(",\"same_name\":{\"keyword\":\"").append(escape(query)).append("\",\"region\":[],\"selected_region\":\"\"}")
+                .append(",\"total_count\":").append(totalCount).append("}}");
+        return sb.toString();
+    }
+
+    private static final String[] CATEGORIES = {
+            "음식점 > 한식 > 육류,고기 > 삼겹살",
+            "음식점 > 일식 > 초밥,롤",
+            "음식점 > 중식 > 중국요리",
+            "음식점 > 양식 > 이탈리안",
+            "음식점 > 한식 > 국밥",
+            "음식점 > 분식",
+    };
+
+    private void sleep() {
+        long delay = latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.wetbackend.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 응답 시간 기록기 (스레드마다 하나씩 사용하고 마지막에 merge)
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private long notModified;
+    private long bytes;
+
+    /**
+     * @param notModified 304 응답 여부
+     * @param bodyBytes   응답 본문 크기 (압축된 경우 압축된 크기 = 전송량)
+     */
+    void record(long nanos, boolean success, boolean notModified, long bodyBytes) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+        if (notModified) {
+            this.notModified++;
+        }
+        bytes += bodyBytes;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, count + other.count));
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errors += other.errors;
+        notModified += other.notModified;
+        bytes += other.bytes;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    long notModified() {
+        return notModified;
+    }
+
+    /**
+     * 요청당 평균 응답 본문 크기 (KB)
+     */
+    double averageKilobytes() {
+        return count == 0 ? 0 : bytes / 1024.0 / count;
+    }
+
+    /**
+     * 백분위 응답 시간 (밀리초, nearest-rank)
+     */
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, Math.min(count - 1, rank - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.wetbackend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 오프라인 부하 테스트 진입점
+ *
+ * 명령:
+ *   stub  카카오 스텁 서버만 실행 (Ctrl+C로 종료)
+ *   run   이미 실행 중인 서버(--target)에 부하를 주고 결과 출력
+ *   all   스텁 서버를 띄운 뒤 run 수행 (서버는 kakao.api.url을 스텁으로 지정해 미리 실행)
+ *
+ * 옵션 (--key=value):
+ *   stub: --stub-port=18080 --latency-ms=80 --jitter-ms=40 --error-rate=0.0 --total-count=45
+ *   run:  --target=http://localhost:8080 --scenario=mixed|search|recommendation|like|likes
+ *         --concurrency=64 --duration-seconds=30 --warmup-seconds=5
+ *         --users=50 --addresses=200 --restaurants=2000
+ *         --gzip=false         GET 요청에 Accept-Encoding: gzip 추가
+ *         --conditional=false  이전 응답의 ETag를 If-None-Match로 전송 (304 응답 수 집계)
+ */
+public class LoadTestMain {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String command = args.length > 0 && !args[0].startsWith("--") ? args[0] : "all";
+        Map<String, String> options = options(args);
+
+        KakaoStubServer stub = null;
+        if (command.equals("stub") || command.equals("all")) {
+            stub = new KakaoStubServer(
+                    intOption(options, "stub-port", 18080),
+                    longOption(options, "latency-ms", 80),
+                    longOption(options, "jitter-ms", 40),
+                    Double.parseDouble(options.getOrDefault("error-rate", "0.0")),
+                    intOption(options, "total-count", 45));
+            stub.start();
+        }
+
+        if (command.equals("stub")) {
+            Thread.currentThread().join();
+            return;
+        }
+        if (!command.equals("run") && !command.equals("all")) {
+            System.err.println("Unknown command: " + command + " (stub | run | all)");
+            System.exit(2);
+        }
+
+        try {
+            run(options);
+        } finally {
+            if (stub != null) {
+                System.out.printf("Kakao stub: %d requests, %d injected errors%n", stub.requestCount(), stub.errorCount());
+                stub.stop();
+            }
+        }
+    }
+
+    private static void run(Map<String, String> options) throws Exception {
+        String target = options.getOrDefault("target", "http://localhost:8080");
+        int concurrency = intOption(options, "concurrency", 64);
+        int durationSeconds = intOption(options, "duration-seconds", 30);
+        int warmupSeconds = intOption(options, "warmup-seconds", 5);
+        List<Scenario> scenarios = scenarios(options.getOrDefault("scenario", "mixed"));
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient client = HttpClient.newBuilder()
+                .executor(executor)
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Scenario.Context context = new Scenario.Context(target,
+                createUsers(client, target, intOption(options, "users", 50)),
+                intOption(options, "addresses", 200),
+                intOption(options, "restaurants", 2000),
+                Boolean.parseBoolean(options.getOrDefault("gzip", "false")));
+        boolean conditional = Boolean.parseBoolean(options.getOrDefault("conditional", "false"));
+
+        System.out.printf("Load: target=%s scenario=%s concurrency=%d warmup=%ds duration=%ds gzip=%s conditional=%s%n",
+                target, options.getOrDefault("scenario", "mixed"), concurrency, warmupSeconds, durationSeconds,
+                context.gzip(), conditional);
+
+        long measureFrom = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long end = measureFrom + durationSeconds * 1_000_000_000L;
+
+        List<Map<Scenario, LatencyRecorder>> perWorker = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+            perWorker.add(recorders);
+            executor.execute(() -> {
+                try {
+                    work(client, context, scenarios, conditional, recorders, measureFrom, end);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        executor.shutdown();
+
+        report(perWorker, durationSeconds);
+    }
+
+    /**
+     * 닫힌 루프(closed-loop): 각 워커는 이전 응답을 받은 뒤 다음 요청을 보냅니다.
+     * conditional이면 워커별로 URL마다 마지막 ETag를 기억해 If-None-Match로 보냅니다. (클라이언트 캐시 흉내)
+     */
+    private static void work(HttpClient client, Scenario.Context context, List<Scenario> scenarios, boolean conditional,
+            Map<Scenario, LatencyRecorder> recorders, long measureFrom, long end) {
+        Map<URI, String> etags = new HashMap<>();
+        while (System.nanoTime() < end) {
+            Scenario scenario = Scenario.pick(scenarios);
+            HttpRequest request = scenario.request(context);
+            String etag = conditional && request.method().equals("GET") ? etags.get(request.uri()) : null;
+            if (etag != null) {
+                request = HttpRequest.newBuilder(request, (name, value) -> true).header("If-None-Match", etag).build();
+            }
+            long start = System.nanoTime();
+            boolean success;
+            boolean notModified = false;
+            long bodyBytes = 0;
+            try {
+                // HttpClient는 gzip을 풀지 않으므로 본문 길이가 곧 전송된 크기
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                notModified = response.statusCode() == 304;
+                success = response.statusCode() / 100 == 2 || notModified;
+                bodyBytes = response.body().length;
+                if (conditional) {
+                    response.headers().firstValue("ETag").ifPresent(value -> etags.put(response.request().uri(), value));
+                }
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (start >= measureFrom) {
+                recorders.computeIfAbsent(scenario, s -> new LatencyRecorder())
+                        .record(System.nanoTime() - start, success, notModified, bodyBytes);
+            }
+        }
+    }
+
+    private static void report(List<Map<Scenario, LatencyRecorder>> perWorker, int durationSeconds) {
+        Map<Scenario, LatencyRecorder> merged = new EnumMap<>(Scenario.class);
+        LatencyRecorder total = new LatencyRecorder();
+        for (Map<Scenario, LatencyRecorder> recorders : perWorker) {
+            recorders.forEach((scenario, recorder) -> {
+                merged.computeIfAbsent(scenario, s -> new LatencyRecorder()).merge(recorder);
+                total.merge(recorder);
+            });
+        }
+
+        System.out.println();
+        System.out.printf("%-16s %10s %8s %8s %10s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "304", "rps", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "KB/req");
+        merged.forEach((scenario, recorder) -> printRow(scenario.name().toLowerCase(Locale.ROOT), recorder, durationSeconds));
+        printRow("total", total, durationSeconds);
+    }
+
+    private static void printRow(String name, LatencyRecorder recorder, int durationSeconds) {
+        System.out.printf("%-16s %10d %8d %8d %10.1f %9.1f %9.1f %9.1f %9.1f %9.2f%n",
+                name,
+                recorder.count(),
+                recorder.errors(),
+                recorder.notModified(),
+                recorder.count() / (double) durationSeconds,
+                recorder.percentileMillis(50),
+                recorder.percentileMillis(95),
+                recorder.percentileMillis(99),
+                recorder.percentileMillis(100),
+                recorder.averageKilobytes());
+    }
+
+    /**
+     * 찜 시나리오용 사용자 생성 (POST /api/users)
+     */
+    private static List<Long> createUsers(HttpClient client, String target, int count) throws Exception {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String body = "{\"name\":\"load-" + i + "\",\"email\":\"load-" + runId + "-" + i + "@example.com\"}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create(target + "/api/users"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = ID.matcher(response.body());
+            if (response.statusCode() / 100 != 2 || !matcher.find()) {
+                throw new IllegalStateException("사용자 생성 실패: " + response.statusCode() + " " + response.body());
+            }
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids;
+    }
+
+    private static List<Scenario> scenarios(String name) {
+        if (name.equals("mixed")) {
+            return List.of(Scenario.values());
+        }
+        return List.of(Scenario.valueOf(name.toUpperCase(Locale.ROOT)));
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(key, String.valueOf(defaultValue)));
+    }
+
+    private static long longOption(Map<String, String> options, String key, long defaultValue) {
+        return Long.parseLong(options.getOrDefault(key, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.wetbackend.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 시나리오
+ * mixed 실행 시 weight 비율로 섞어서 요청합니다.
+ */
+enum Scenario {
+
+    /** 주소 검색: GET /api/restaurants/search */
+    SEARCH(40) {
+        @Override
+        HttpRequest request(Context context) {
+            return get(context, "/api/restaurants/search?address=" + encode(context.randomAddress()));
+        }
+    },
+
+    /** 맛집 추천: GET /api/restaurants/recommendation */
+    RECOMMENDATION(20) {
+        @Override
+        HttpRequest request(Context context) {
+            return get(context, "/api/restaurants/recommendation?limit=3&address=" + encode(context.randomAddress()));
+        }
+    },
+
+    /** 찜하기 토글: POST /api/restaurants/like */
+    LIKE(20) {
+        @Override
+        HttpRequest request(Context context) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long restaurantId = 10_000_000L + random.nextInt(context.restaurants());
+            String body = "{\"userId\":" + context.randomUser() + ",\"restaurant\":{"
+                    + "\"id\":\"" + restaurantId + "\","
+                    + "\"name\":\"스텁 식당 " + restaurantId + "\","
+                    + "\"category\":\"음식점 > 한식\","
+                    + "\"address\":\"서울 강남구 역삼동 " + (restaurantId % 1000) + "\","
+                    + "\"x\":\"" + (127.0 + (restaurantId % 1000) * 0.0001) + "\","
+                    + "\"y\":\"" + (37.5 + (restaurantId % 1000) * 0.0001) + "\"}}";
+            return HttpRequest.newBuilder(URI.create(context.target() + "/api/restaurants/like"))
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    },
+
+    /** 찜 목록 조회: GET /api/restaurants/likes */
+    LIKES(20) {
+        @Override
+        HttpRequest request(Context context) {
+            return get(context, "/api/restaurants/likes?size=20&userId=" + context.randomUser());
+        }
+    };
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final int weight;
+
+    Scenario(int weight) {
+        this.weight = weight;
+    }
+
+    abstract HttpRequest request(Context context);
+
+    static Scenario pick(List<Scenario> scenarios) {
+        if (scenarios.size() == 1) {
+            return scenarios.get(0);
+        }
+        int total = 0;
+        for (Scenario scenario : scenarios) {
+            total += scenario.weight;
+        }
+        int r = ThreadLocalRandom.current().nextInt(total);
+        for (Scenario scenario : scenarios) {
+            r -= scenario.weight;
+            if (r < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private static HttpRequest get(Context context, String pathAndQuery) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(context.target() + pathAndQuery))
+                .timeout(TIMEOUT)
+                .GET();
+        if (context.gzip()) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        return builder.build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 시나리오 공통 입력 (대상 서버, 사전 생성한 사용자, 검색 주소 수, 찜 대상 식당 수, gzip 요청 여부)
+     */
+    record Context(String target, List<Long> userIds, int addresses, int restaurants, boolean gzip) {
+
+        long randomUser() {
+            return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+        }
+
+        String randomAddress() {
+            return "서울 강남구 역삼동 " + ThreadLocalRandom.current().nextInt(addresses);
+        }
+    }
+}
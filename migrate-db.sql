@@ -0,0 +1,90 @@
+-- 기존 데이터베이스 마이그레이션 스크립트
+-- init-db.sql로 만든(또는 ddl-auto로 생성된) 기존 DB를 최신 스키마로 맞출 때 사용합니다.
+-- 각 섹션은 한 번만 실행하면 됩니다.
+
+USE wetdb;
+
+-- ------------------------------------------------------------
+-- 찜 목록 사용자별 조회/키셋 페이지네이션
+-- ------------------------------------------------------------
+
+-- JPA Auditing이 꺼져 있던 동안 저장된 찜은 created_at이 NULL이므로 채워줌
+-- (id 순서를 유지하도록 id 값을 마이크로초로 더해 정렬 순서를 보존)
+UPDATE restaurant_likes
+   SET created_at = DATE_ADD('2000-01-01 00:00:00.000000', INTERVAL id MICROSECOND)
+ WHERE created_at IS NULL;
+
+-- 사용자별 찜 목록 (최근순) 인덱스: 다른 사용자의 행을 읽지 않음
+CREATE INDEX IF NOT EXISTS idx_likes_user_created ON restaurant_likes (user_id, created_at, id);
+
+-- ------------------------------------------------------------
+-- 식당별 찜 수 (like_count)
+-- ------------------------------------------------------------
+
+ALTER TABLE restaurants ADD COLUMN IF NOT EXISTS like_count BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 찜 데이터로 찜 수 채우기
+UPDATE restaurants r
+   SET like_count = (SELECT COUNT(*) FROM restaurant_likes l WHERE l.restaurant_id = r.id);
+
+CREATE INDEX IF NOT EXISTS idx_restaurants_like_count ON restaurants (like_count);
+
+-- ------------------------------------------------------------
+-- 좌표를 숫자 컬럼으로 변경 (주변 식당 조회)
+-- ------------------------------------------------------------
+
+ALTER TABLE restaurants
+    ADD COLUMN IF NOT EXISTS longitude DOUBLE,
+    ADD COLUMN IF NOT EXISTS latitude DOUBLE;
+
+-- 기존 문자열 좌표 이관 (빈 문자열은 NULL)
+UPDATE restaurants
+   SET longitude = CAST(NULLIF(TRIM(x_coordinate), '') AS DECIMAL(17, 14)),
+       latitude  = CAST(NULLIF(TRIM(y_coordinate), '') AS DECIMAL(17, 14))
+ WHERE longitude IS NULL;
+
+ALTER TABLE restaurants
+    DROP COLUMN IF EXISTS x_coordinate,
+    DROP COLUMN IF EXISTS y_coordinate;
+
+CREATE INDEX IF NOT EXISTS idx_restaurants_lat_lng ON restaurants (latitude, longitude);
+
+-- ------------------------------------------------------------
+-- 카카오 검색 결과 DB 캐시 (search_cache)
+-- ------------------------------------------------------------
+
+CREATE TABLE IF NOT EXISTS search_cache (
+    query_key VARCHAR(255) PRIMARY KEY,
+    payload MEDIUMBLOB NOT NULL,
+    result_count INT NOT NULL,
+    fetched_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    INDEX idx_search_cache_expires (expires_at)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci;
+
+-- ------------------------------------------------------------
+-- 식당/찜 id 시퀀스 (JDBC 배치 INSERT)
+-- 애플리케이션을 새 버전으로 올리기 전에 실행해야 합니다.
+-- (먼저 올리면 ddl-auto가 1부터 시작하는 시퀀스를 만들어 기존 id와 겹침)
+-- 기존 AUTO_INCREMENT 컬럼은 그대로 두며, 이후 INSERT는 항상 시퀀스 값으로 id를 채웁니다.
+-- ------------------------------------------------------------
+
+-- 현재 최대 id 이후부터 시작 (네이티브 INSERT와 공유하므로 1씩 증가, 엔티티 allocationSize = 1과 맞춤)
+SET @seq_start = (SELECT COALESCE(MAX(id), 0) + 1 FROM restaurants);
+SET @seq_sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS restaurants_seq START WITH ', @seq_start, ' INCREMENT BY 1');
+PREPARE stmt FROM @seq_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @seq_start = (SELECT COALESCE(MAX(id), 0) + 1 FROM restaurant_likes);
+SET @seq_sql = CONCAT('CREATE SEQUENCE IF NOT EXISTS restaurant_likes_seq START WITH ', @seq_start, ' INCREMENT BY 1');
+PREPARE stmt FROM @seq_sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 이전 버전 마이그레이션으로 INCREMENT BY 50 시퀀스를 이미 만든 경우 1씩 증가로 변경
+-- (현재 값 이후로만 진행하므로 이미 나간 id와 겹치지 않음)
+ALTER SEQUENCE restaurants_seq INCREMENT BY 1;
+ALTER SEQUENCE restaurant_likes_seq INCREMENT BY 1;
@@ -0,0 +1,86 @@
+package com.example.wetbackend.model;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List&lt;RestaurantDto&gt; 응답 직렬화/역직렬화 벤치마크
+ * (검색 결과 15건, 주변 검색/찜 목록 상한 수준 200건)
+ *
+ * format: json(기본 응답), cbor, smile (MessageConverterConfig와 같은 설정)
+ * 형식별 본문 크기는 Setup에서 출력합니다. (압축 전 크기)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestaurantDtoSerializationBenchmark {
+
+    private static final TypeReference<List<RestaurantDto>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    @Param({ "15", "200" })
+    private int size;
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private List<RestaurantDto> restaurants;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 스프링 MVC 메시지 컨버터와 같은 방식으로 ObjectMapper를 구성합니다.
+        objectMapper = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.json()
+                    .factory(new SmileFactory().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES))
+                    .build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        restaurants = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            restaurants.add(RestaurantDto.builder()
+                    .id(String.valueOf(26338954 + i))
+                    .name("역삼 맛집 " + i)
+                    .category("음식점 > 한식 > 육류,고기 > 삼겹살")
+                    .phone("02-555-" + (1000 + i))
+                    .address("서울 강남구 역삼동 " + (600 + i))
+                    .roadAddress("서울 강남구 테헤란로 " + (100 + i))
+                    .x("127.0286" + i)
+                    .y("37.4979" + i)
+                    .placeUrl("http://place.map.kakao.com/" + (26338954 + i))
+                    .likeCount(i % 3 == 0 ? (long) i : null)
+                    .build());
+        }
+        payload = objectMapper.writeValueAsBytes(restaurants);
+        System.out.printf("%n[payload] format=%s size=%d bytes=%d%n", format, size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(restaurants);
+    }
+
+    @Benchmark
+    public List<RestaurantDto> deserialize() throws IOException {
+        return objectMapper.readValue(payload, LIST_TYPE);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.KakaoSearchPage;
+import com.example.wetbackend.model.KakaoSearchResponse;
+import com.example.wetbackend.support.RestaurantMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 검색 응답 처리 벤치마크
+ *
+ * 실제 응답 형태의 페이로드(15건, src/jmh/resources/kakao-search-response.json)로
+ * 역직렬화(databind) + RestaurantMapper 변환 경로와 스트리밍 파서 경로를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KakaoParsingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private KakaoResponseParser kakaoResponseParser;
+    private byte[] payload;
+    private KakaoSearchResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        kakaoResponseParser = new KakaoResponseParser(objectMapper);
+        try (InputStream in = KakaoParsingBenchmark.class.getResourceAsStream("/kakao-search-response.json")) {
+            payload = in.readAllBytes();
+        }
+        response = objectMapper.readValue(payload, KakaoSearchResponse.class);
+    }
+
+    /** 응답 역직렬화만 (KakaoSearchResponse/Document 생성) */
+    @Benchmark
+    public KakaoSearchResponse databind() throws IOException {
+        return objectMapper.readValue(payload, KakaoSearchResponse.class);
+    }
+
+    /** Document -> RestaurantDto 변환만 */
+    @Benchmark
+    public KakaoSearchPage convertToDto() {
+        return RestaurantMapper.toPage(response);
+    }
+
+    /** 기존 경로 (kakao.search.streaming-parser=false): 역직렬화 후 변환 */
+    @Benchmark
+    public KakaoSearchPage databindAndConvert() throws IOException {
+        return RestaurantMapper.toPage(objectMapper.readValue(payload, KakaoSearchResponse.class));
+    }
+
+    /** 스트리밍 파서 경로 (kakao.search.streaming-parser=true) */
+    @Benchmark
+    public KakaoSearchPage streamingParser() throws IOException {
+        return kakaoResponseParser.parse(payload);
+    }
+}
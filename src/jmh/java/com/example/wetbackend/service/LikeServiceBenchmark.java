@@ -0,0 +1,107 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.WetBackendApplication;
+import com.example.wetbackend.model.LikedRestaurantPage;
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.model.User;
+import com.example.wetbackend.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 찜하기 토글 / 찜 목록 조회 벤치마크
+ *
+ * 실제 스프링 컨텍스트(트랜잭션, JPA, 네이티브 upsert)를 내장 H2(MODE=MariaDB, bench 프로필)에 띄워 측정합니다.
+ * 절대값은 MariaDB와 다르므로 변경 전후 비교 용도로 사용합니다.
+ * secondLevelCache 파라미터로 Hibernate 2차 캐시(사용자)를 켠 경우와 끈 경우를 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LikeServiceBenchmark {
+
+    private static final int LIKED_COUNT = 200;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"false", "true"})
+    public boolean secondLevelCache;
+
+    private ConfigurableApplicationContext context;
+    private RestaurantService restaurantService;
+    private UserRepository userRepository;
+    private Long userId;
+    private RestaurantDto toggleTarget;
+    private String secondPageCursor;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(WetBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("bench")
+                .properties("spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache)
+                .run();
+        restaurantService = context.getBean(RestaurantService.class);
+        userRepository = context.getBean(UserRepository.class);
+
+        userId = userRepository.save(new User("bench", "bench@example.com")).getId();
+        for (int i = 0; i < LIKED_COUNT; i++) {
+            restaurantService.toggleLike(userId, restaurant(i));
+        }
+        toggleTarget = restaurant(LIKED_COUNT);
+        secondPageCursor = restaurantService.getLikedRestaurants(userId, null, PAGE_SIZE).getNextCursor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 찜하기/찜취소를 번갈아 수행 (두 경로의 평균) */
+    @Benchmark
+    public boolean toggleLike() {
+        return restaurantService.toggleLike(userId, toggleTarget);
+    }
+
+    @Benchmark
+    public LikedRestaurantPage getLikedRestaurantsFirstPage() {
+        return restaurantService.getLikedRestaurants(userId, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public LikedRestaurantPage getLikedRestaurantsNextPage() {
+        return restaurantService.getLikedRestaurants(userId, secondPageCursor, PAGE_SIZE);
+    }
+
+    /** 사용자 단건 조회 (2차 캐시 적중 시 쿼리 없음) */
+    @Benchmark
+    public Optional<User> findUser() {
+        return userRepository.findById(userId);
+    }
+
+    private static RestaurantDto restaurant(int i) {
+        return RestaurantDto.builder()
+                .id(String.valueOf(26338954 + i))
+                .name("역삼 맛집 " + i)
+                .category("음식점 > 한식 > 육류,고기 > 삼겹살")
+                .phone("02-555-" + (1000 + i))
+                .address("서울 강남구 역삼동 " + (600 + i))
+                .roadAddress("서울 강남구 테헤란로 " + (100 + i))
+                .x(String.valueOf(127.0286 + i * 0.0001))
+                .y(String.valueOf(37.4979 + i * 0.0001))
+                .placeUrl("http://place.map.kakao.com/" + (26338954 + i))
+                .build();
+    }
+}
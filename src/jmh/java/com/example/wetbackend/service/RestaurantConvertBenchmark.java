@@ -0,0 +1,59 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.model.entity.Restaurant;
+import com.example.wetbackend.support.RestaurantMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Restaurant 엔티티 -> RestaurantDto 변환(RestaurantMapper) 벤치마크 (주변 검색 결과 크기 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestaurantConvertBenchmark {
+
+    @Param({ "15", "200" })
+    private int size;
+
+    private List<Restaurant> restaurants;
+
+    @Setup
+    public void setUp() {
+        restaurants = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            restaurants.add(Restaurant.builder()
+                    .id((long) i + 1)
+                    .kakaoId(String.valueOf(26338954 + i))
+                    .name("역삼 맛집 " + i)
+                    .category("음식점 > 한식 > 육류,고기 > 삼겹살")
+                    .phone("02-555-" + (1000 + i))
+                    .address("서울 강남구 역삼동 " + (600 + i))
+                    .roadAddress("서울 강남구 테헤란로 " + (100 + i))
+                    .x(127.0286 + i * 0.0001)
+                    .y(37.4979 + i * 0.0001)
+                    .placeUrl("http://place.map.kakao.com/" + (26338954 + i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<RestaurantDto> convertToDto() {
+        List<RestaurantDto> result = new ArrayList<>(restaurants.size());
+        for (Restaurant restaurant : restaurants) {
+            result.add(RestaurantMapper.toDto(restaurant));
+        }
+        return result;
+    }
+}
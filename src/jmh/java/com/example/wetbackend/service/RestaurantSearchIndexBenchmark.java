@@ -0,0 +1,79 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 식당 검색 인덱스 벤치마크
+ *
+ * 모든 식당이 "서울"을, 1/4이 "강남구 역삼동"을 갖는 주소 분포로 색인한 뒤
+ * 흔한 n-gram 검색(주소), 드문 이름 검색, 초성 검색, 변경 없는 재색인(찜할 때마다 호출)을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestaurantSearchIndexBenchmark {
+
+    private static final String[] BRANDS = { "김밥천국", "교촌치킨", "스타벅스", "홍콩반점", "본죽", "명동칼국수", "원할머니보쌈", "맘스터치" };
+    private static final String[] DISTRICTS = { "강남구 역삼동", "서초구 서초동", "마포구 서교동", "종로구 관철동" };
+    private static final String[] CATEGORIES = { "음식점 > 한식", "음식점 > 분식", "음식점 > 치킨", "음식점 > 카페" };
+
+    @Param({ "1000", "10000", "100000" })
+    private int size;
+
+    private RestaurantSearchIndex index;
+    private RestaurantDto unchanged;
+
+    @Setup
+    public void setUp() {
+        index = new RestaurantSearchIndex(0.8);
+        for (int i = 0; i < size; i++) {
+            index.add(restaurant(i));
+        }
+        index.markReady();
+        unchanged = restaurant(size / 2);
+    }
+
+    /** 거의 모든 식당에 있는 n-gram으로만 이루어진 주소 검색 */
+    @Benchmark
+    public List<RestaurantDto> commonGramQuery() {
+        return index.search("서울 강남구 역삼동", 15);
+    }
+
+    @Benchmark
+    public List<RestaurantDto> nameQuery() {
+        return index.search("명동칼국수 서초점", 15);
+    }
+
+    @Benchmark
+    public List<RestaurantDto> choseongQuery() {
+        return index.search("ㅁㄷㅋㄱㅅ", 15);
+    }
+
+    /** 찜하기마다 호출되는 색인 갱신 (내용이 같으면 읽기 잠금만) */
+    @Benchmark
+    public void addUnchanged() {
+        index.add(unchanged);
+    }
+
+    private static RestaurantDto restaurant(int i) {
+        String district = DISTRICTS[i % DISTRICTS.length];
+        return RestaurantDto.builder()
+                .id(String.valueOf(26338954 + i))
+                .name(BRANDS[i % BRANDS.length] + " " + district.substring(district.indexOf(' ') + 1, district.length() - 1) + "점 " + i)
+                .category(CATEGORIES[i % CATEGORIES.length])
+                .address("서울 " + district + " " + (600 + i % 500))
+                .roadAddress("서울 " + district.substring(0, district.indexOf(' ')) + " 테헤란로 " + (100 + i % 300))
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.wetbackend.config;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.support.TtlLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인메모리 캐시 설정 클래스
+ * 크기와 만료 시간은 application.properties에서 조정합니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    /**
+     * 카카오 검색 결과 캐시
+     * 키: 정규화된 검색어 (KakaoMapService.normalizeQuery 참고)
+     * 만료된 결과도 stale-seconds 동안 보관하여 카카오 장애/지연 시 마지막 정상 결과로 응답합니다.
+     */
+    @Bean
+    public TtlLruCache<String, List<RestaurantDto>> searchResultCache(
+            @Value("${kakao.cache.max-size:1000}") int maxSize,
+            @Value("${kakao.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${kakao.cache.stale-seconds:86400}") long staleSeconds) {
+        return new TtlLruCache<>(maxSize, Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(staleSeconds));
+    }
+
+    /**
+     * 카카오 검색 첫 페이지 결과 캐시 (논블로킹 경로, ReactiveKakaoMapService)
+     * 키: 정규화된 검색어. 첫 페이지만 담으므로 여러 페이지를 합친 searchResultCache와 섞지 않습니다.
+     */
+    @Bean
+    public TtlLruCache<String, List<RestaurantDto>> firstPageSearchCache(
+            @Value("${kakao.cache.max-size:1000}") int maxSize,
+            @Value("${kakao.cache.ttl-seconds:600}") long ttlSeconds) {
+        return new TtlLruCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * 맛집 추천 결과 캐시
+     * 키: 정규화된 주소 + 기준 좌표 + 추천 옵션 (RecommendationService 참고)
+     * 찜 수 변화가 반영되도록 검색 결과 캐시보다 짧게 유지합니다.
+     */
+    @Bean
+    public TtlLruCache<String, List<RestaurantDto>> recommendationCache(
+            @Value("${recommendation.cache.max-size:500}") int maxSize,
+            @Value("${recommendation.cache.ttl-seconds:60}") long ttlSeconds) {
+        return new TtlLruCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * 사용자별 찜한 식당(kakao_id) 집합 캐시
+     * 키: 사용자 ID. 이 인스턴스의 찜하기/찜취소는 바로 반영되고(LikedStateService 참고),
+     * 다른 인스턴스에서 바뀐 찜 상태는 만료 시간 안에 반영됩니다.
+     */
+    @Bean
+    public TtlLruCache<Long, Set<String>> likedSetCache(
+            @Value("${liked-set.cache.max-users:10000}") int maxUsers,
+            @Value("${liked-set.cache.ttl-seconds:600}") long ttlSeconds) {
+        return new TtlLruCache<>(maxUsers, Duration.ofSeconds(ttlSeconds));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.wetbackend.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정 클래스
+ *
+ * 기본 RestTemplate(SimpleClientHttpRequestFactory)은 커넥션 풀과 타임아웃이 없어
+ * 매 호출마다 TLS 핸드셰이크가 발생하고, 카카오 응답이 느리면 서블릿 스레드가 무한정 묶입니다.
+ * Apache HttpClient 5의 커넥션 풀(keep-alive)과 타임아웃을 사용하도록 설정합니다.
+ * 모든 값은 application.properties의 http.client.* 로 조정합니다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * 커넥션 풀
+     * 풀 상태(leased/pending/available)는 모니터링 API에서 조회합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager(
+            @Value("${http.client.max-total:100}") int maxTotal,
+            @Value("${http.client.max-per-route:50}") int maxPerRoute,
+            @Value("${http.client.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${http.client.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${http.client.time-to-live-seconds:300}") long timeToLiveSeconds) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal) // 전체 최대 커넥션 수
+                .setMaxConnPerRoute(maxPerRoute) // 호스트(route)당 최대 커넥션 수
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(
+            PoolingHttpClientConnectionManager httpConnectionManager,
+            @Value("${http.client.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${http.client.pool-acquire-timeout-ms:500}") long poolAcquireTimeoutMs,
+            @Value("${http.client.keep-alive-seconds:30}") long keepAliveSeconds,
+            @Value("${http.client.idle-evict-seconds:30}") long idleEvictSeconds) {
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMs)) // 풀에서 커넥션을 얻기까지 대기
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                // 유휴 커넥션을 keepAliveSeconds 동안 재사용 (매 호출 TLS 핸드셰이크 방지)
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                // 백그라운드 스레드로 만료/유휴 커넥션 정리
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory clientHttpRequestFactory(CloseableHttpClient httpClient) {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.wetbackend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * JPA 설정 클래스
+ *
+ * @EnableJpaAuditing: 엔티티의 @CreatedDate / @LastModifiedDate 값을 자동으로 채워줍니다.
+ *                     (AuditingEntityListener가 동작하려면 반드시 필요)
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaConfig {
+}
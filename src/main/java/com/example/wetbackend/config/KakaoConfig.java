@@ -0,0 +1,99 @@
+package com.example.wetbackend.config;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.support.BoundedExecutor;
+import com.example.wetbackend.support.CircuitBreaker;
+import com.example.wetbackend.support.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 카카오 API 호출 관련 설정 클래스
+ */
+@Configuration
+public class KakaoConfig {
+
+    /**
+     * 동일 검색어에 대한 동시 카카오 호출 병합
+     * 인기 주소로 요청이 몰려도 카카오에는 검색어당 한 번만 요청합니다.
+     */
+    @Bean
+    public SingleFlight<String, List<RestaurantDto>> searchSingleFlight() {
+        return new SingleFlight<>();
+    }
+
+    /**
+     * 카카오 호출 서킷 브레이커
+     * 연속 failure-threshold회 실패(오류 또는 slow-call-ms 초과)하면 open-seconds 동안 카카오를 호출하지 않고
+     * 마지막 정상 결과(없으면 빈 목록)로 즉시 응답합니다.
+     */
+    @Bean
+    public CircuitBreaker kakaoCircuitBreaker(
+            @Value("${kakao.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${kakao.circuit-breaker.open-seconds:30}") long openSeconds) {
+        return new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds));
+    }
+
+    /**
+     * 카카오 검색 호출 실행기
+     *
+     * 요청 스레드는 마감 시간까지만 결과를 기다리고, 호출은 이 실행기에서 끝까지 진행되어 캐시를 갱신합니다.
+     * 큐까지 가득 차면 호출을 거절(AbortPolicy)하여 요청 스레드가 카카오 응답을 기다리며 쌓이지 않게 합니다.
+     * 가상 스레드 모드에서도 동시 호출이 pool-size에 도달하면 제출 스레드를 막지 않고 바로 거절합니다.
+     */
+    @Bean
+    public AsyncTaskExecutor kakaoFetchExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${kakao.fetch.executor.pool-size:32}") int poolSize,
+            @Value("${kakao.fetch.executor.queue-capacity:100}") int queueCapacity) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kakao-fetch-");
+            executor.setVirtualThreads(true);
+            return new BoundedExecutor(executor, poolSize);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("kakao-fetch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 카카오 다중 페이지 병렬 조회용 실행기
+     *
+     * - 가상 스레드 모드(spring.threads.virtual.enabled=true): 작업마다 가상 스레드를 만들고,
+     *   동시 실행 수가 pool-size에 도달하면 바로 거절합니다.
+     * - 기본 모드: 고정 크기 스레드 풀. 큐까지 가득 차면 거절(AbortPolicy)합니다.
+     * 거절된 페이지는 요청 스레드에서 대신 실행하지 않고 결과에서 빠집니다. (페이지 마감 시간 보장)
+     */
+    @Bean
+    public AsyncTaskExecutor kakaoSearchExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${kakao.search.executor.pool-size:16}") int poolSize,
+            @Value("${kakao.search.executor.queue-capacity:200}") int queueCapacity) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kakao-page-");
+            executor.setVirtualThreads(true);
+            return new BoundedExecutor(executor, poolSize);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("kakao-page-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.wetbackend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 바이너리 응답 형식 설정 클래스 (Accept 헤더로 선택)
+ *
+ *   Accept: application/cbor             → CBOR
+ *   Accept: application/x-jackson-smile  → Smile (필드 이름/반복 문자열을 참조로 압축)
+ *   그 외 (Accept 없음, 모든 형식 허용)   → JSON (기존과 동일)
+ *
+ * 컨버터 빈은 Spring Boot 기본 컨버터 목록에서 같은 종류의 자리를 대신하므로 JSON이 계속 우선입니다.
+ * spring.jackson.* 설정이 JSON과 똑같이 적용되도록 Boot의 Jackson2ObjectMapperBuilder로 만듭니다.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = new SmileFactory();
+        // 같은 값의 짧은 문자열(카테고리, 주소 앞부분 등)을 한 번만 기록
+        factory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES);
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(factory).build());
+    }
+}
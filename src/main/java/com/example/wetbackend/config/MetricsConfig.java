@@ -0,0 +1,150 @@
+package com.example.wetbackend.config;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.service.SearchCacheStore;
+import com.example.wetbackend.support.CircuitBreaker;
+import com.example.wetbackend.support.SingleFlight;
+import com.example.wetbackend.support.TtlLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 내부 캐시/커넥션 풀 지표 설정 클래스
+ *
+ * 값은 /actuator/prometheus 수집 시점에만 읽으므로 요청 처리 경로에는 비용이 없습니다.
+ * (HTTP 엔드포인트, HikariCP, 리포지토리 메서드 지표는 Spring Boot Actuator가 자동으로 등록합니다)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder searchResultCacheMetrics(TtlLruCache<String, List<RestaurantDto>> searchResultCache) {
+        return registry -> bindCache(registry, "searchResultCache", searchResultCache);
+    }
+
+    @Bean
+    public MeterBinder firstPageSearchCacheMetrics(TtlLruCache<String, List<RestaurantDto>> firstPageSearchCache) {
+        return registry -> bindCache(registry, "firstPageSearchCache", firstPageSearchCache);
+    }
+
+    @Bean
+    public MeterBinder recommendationCacheMetrics(TtlLruCache<String, List<RestaurantDto>> recommendationCache) {
+        return registry -> bindCache(registry, "recommendationCache", recommendationCache);
+    }
+
+    @Bean
+    public MeterBinder likedSetCacheMetrics(TtlLruCache<Long, Set<String>> likedSetCache) {
+        return registry -> bindCache(registry, "likedSetCache", likedSetCache);
+    }
+
+    /**
+     * 검색 결과 DB 캐시(2차) 지표
+     * 재시작 직후 hit 비율로 콜드 스타트 시 DB 캐시 효과를 확인합니다.
+     */
+    @Bean
+    public MeterBinder searchCacheStoreMetrics(SearchCacheStore searchCacheStore) {
+        return registry -> {
+            FunctionCounter.builder("cache.gets", searchCacheStore, SearchCacheStore::hitCount)
+                    .tag("cache", "searchCacheDb").tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", searchCacheStore, SearchCacheStore::missCount)
+                    .tag("cache", "searchCacheDb").tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.errors", searchCacheStore, SearchCacheStore::errorCount)
+                    .tag("cache", "searchCacheDb")
+                    .register(registry);
+            FunctionCounter.builder("cache.puts", searchCacheStore, SearchCacheStore::writeCount)
+                    .tag("cache", "searchCacheDb")
+                    .register(registry);
+            Gauge.builder("cache.pending.writes", searchCacheStore, SearchCacheStore::pendingCount)
+                    .tag("cache", "searchCacheDb")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 카카오 호출 병합 지표
+     * executions: 실제 카카오 호출 수, shared: 다른 요청의 결과를 공유받은 수
+     */
+    @Bean
+    public MeterBinder searchSingleFlightMetrics(SingleFlight<String, List<RestaurantDto>> searchSingleFlight) {
+        return registry -> {
+            Gauge.builder("kakao.single-flight.in-flight", searchSingleFlight, SingleFlight::inFlightCount)
+                    .register(registry);
+            FunctionCounter.builder("kakao.single-flight.executions", searchSingleFlight, SingleFlight::executionCount)
+                    .register(registry);
+            FunctionCounter.builder("kakao.single-flight.shared", searchSingleFlight, SingleFlight::sharedCount)
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 카카오 서킷 브레이커 지표
+     * state: 0=CLOSED, 1=OPEN, 2=HALF_OPEN / rejected: 서킷이 열려 호출하지 않은 수
+     */
+    @Bean
+    public MeterBinder kakaoCircuitBreakerMetrics(CircuitBreaker kakaoCircuitBreaker) {
+        return registry -> {
+            Gauge.builder("kakao.circuit-breaker.state", kakaoCircuitBreaker, cb -> cb.state().ordinal())
+                    .register(registry);
+            FunctionCounter.builder("kakao.circuit-breaker.calls", kakaoCircuitBreaker, CircuitBreaker::successCount)
+                    .tag("result", "success")
+                    .register(registry);
+            FunctionCounter.builder("kakao.circuit-breaker.calls", kakaoCircuitBreaker, CircuitBreaker::failureCount)
+                    .tag("result", "failure")
+                    .register(registry);
+            FunctionCounter.builder("kakao.circuit-breaker.calls", kakaoCircuitBreaker, CircuitBreaker::rejectedCount)
+                    .tag("result", "rejected")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * 외부 API용 HTTP 커넥션 풀 지표 (leased/pending/available/max)
+     */
+    @Bean
+    public MeterBinder httpConnectionPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return registry -> {
+            Gauge.builder("http.client.pool.leased", httpConnectionManager, m -> m.getTotalStats().getLeased())
+                    .register(registry);
+            Gauge.builder("http.client.pool.pending", httpConnectionManager, m -> m.getTotalStats().getPending())
+                    .register(registry);
+            Gauge.builder("http.client.pool.available", httpConnectionManager, m -> m.getTotalStats().getAvailable())
+                    .register(registry);
+            Gauge.builder("http.client.pool.max", httpConnectionManager, m -> m.getTotalStats().getMax())
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Micrometer 캐시 지표 이름(cache.gets, cache.evictions, cache.size)을 따릅니다.
+     */
+    private static void bindCache(MeterRegistry registry, String name, TtlLruCache<?, ?> cache) {
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().hits())
+                .tag("cache", name).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, c -> c.stats().misses())
+                .tag("cache", name).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.stale.gets", cache, c -> c.stats().staleHits())
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, c -> c.stats().evictions())
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("cache.expirations", cache, c -> c.stats().expirations())
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", cache, TtlLruCache::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
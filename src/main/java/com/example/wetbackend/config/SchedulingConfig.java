@@ -0,0 +1,14 @@
+package com.example.wetbackend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ *
+ * @EnableScheduling: @Scheduled 메서드(주기적 flush, 정리 작업 등)를 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
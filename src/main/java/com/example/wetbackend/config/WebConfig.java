@@ -1,6 +1,8 @@
 package com.example.wetbackend.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -25,15 +27,32 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins("*") // 모든 도메인에서의 요청 허용 (개발 환경용, 배포 시 특정 도메인으로 제한 필요)
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // 허용할 HTTP 메서드
                 .allowedHeaders("*") // 모든 헤더 허용
+                .exposedHeaders("X-Next-Cursor", "ETag") // 브라우저 클라이언트가 읽을 수 있는 응답 헤더 (찜 목록 페이지 커서, 조건부 요청)
                 .allowCredentials(false); // 쿠키/인증 정보 전송 비활성화 (allowedOrigins("*")와 함께 사용 시 필수)
     }
 
+    /**
+     * 사용자 API 응답에 ETag 추가 (본문 해시)
+     * If-None-Match가 같으면 본문 없이 304로 응답해 전송량을 줄입니다. (조회 자체는 매번 수행)
+     * 응답 압축 시에도 비교되도록 약한(W/) ETag를 사용합니다.
+     */
+    @org.springframework.context.annotation.Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> userEtagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/users", "/api/users/*");
+        return registration;
+    }
+
     /**
      * RestTemplate 빈 등록
      * 외부 API (예: 카카오 지도 API) 호출을 위해 사용합니다.
+     * 커넥션 풀과 타임아웃이 적용된 요청 팩토리를 사용합니다. (HttpClientConfig 참고)
      */
     @org.springframework.context.annotation.Bean
-    public org.springframework.web.client.RestTemplate restTemplate() {
-        return new org.springframework.web.client.RestTemplate();
+    public org.springframework.web.client.RestTemplate restTemplate(
+            org.springframework.http.client.ClientHttpRequestFactory clientHttpRequestFactory) {
+        return new org.springframework.web.client.RestTemplate(clientHttpRequestFactory);
     }
 }
@@ -0,0 +1,103 @@
+package com.example.wetbackend.controller;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.service.SearchCacheStore;
+import com.example.wetbackend.support.CircuitBreaker;
+import com.example.wetbackend.support.SingleFlight;
+import com.example.wetbackend.support.TtlLruCache;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운영 지표 조회 API 컨트롤러
+ * 캐시 적중률 등 내부 상태를 확인하는 용도로 사용합니다.
+ */
+@RestController
+@RequestMapping("/api/monitoring")
+@RequiredArgsConstructor
+public class MonitoringController {
+
+    private final TtlLruCache<String, List<RestaurantDto>> searchResultCache;
+    private final SingleFlight<String, List<RestaurantDto>> searchSingleFlight;
+    private final PoolingHttpClientConnectionManager httpConnectionManager;
+    private final CircuitBreaker kakaoCircuitBreaker;
+    private final SearchCacheStore searchCacheStore;
+
+    /**
+     * 카카오 검색 결과 캐시 통계 (size, hits, misses, staleHits, evictions, expirations)
+     * staleHits: 카카오 장애/지연으로 만료된 결과를 대신 반환한 횟수
+     */
+    @GetMapping("/search-cache")
+    public ResponseEntity<TtlLruCache.Stats> getSearchCacheStats() {
+        return ResponseEntity.ok(searchResultCache.stats());
+    }
+
+    /**
+     * 검색 결과 DB 캐시(2차) 통계 (서버 시작 이후 누적)
+     * 재시작 직후 hitRate로 콜드 스타트 때 DB 캐시가 카카오 호출을 얼마나 대신했는지 확인합니다.
+     */
+    @GetMapping("/search-cache-db")
+    public ResponseEntity<Map<String, Object>> getSearchCacheDbStats() {
+        long hits = searchCacheStore.hitCount();
+        long misses = searchCacheStore.missCount();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("hits", hits);
+        response.put("misses", misses);
+        response.put("hitRate", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        response.put("errors", searchCacheStore.errorCount());
+        response.put("writes", searchCacheStore.writeCount());
+        response.put("pendingWrites", searchCacheStore.pendingCount());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 카카오 호출 병합 통계
+     * executions: 실제 카카오 호출 수, shared: 다른 요청의 결과를 공유받은 수
+     */
+    @GetMapping("/search-single-flight")
+    public ResponseEntity<Map<String, Object>> getSearchSingleFlightStats() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("inFlight", searchSingleFlight.inFlightCount());
+        response.put("executions", searchSingleFlight.executionCount());
+        response.put("shared", searchSingleFlight.sharedCount());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 외부 API용 HTTP 커넥션 풀 상태
+     * leased: 사용 중, pending: 커넥션 대기 중인 요청, available: 유휴, max: 최대
+     */
+    @GetMapping("/http-pool")
+    public ResponseEntity<Map<String, Object>> getHttpPoolStats() {
+        PoolStats stats = httpConnectionManager.getTotalStats();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("leased", stats.getLeased());
+        response.put("pending", stats.getPending());
+        response.put("available", stats.getAvailable());
+        response.put("max", stats.getMax());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 카카오 서킷 브레이커 상태
+     * state: CLOSED(정상) / OPEN(호출 차단) / HALF_OPEN(시험 호출 중), rejected: 차단되어 호출하지 않은 수
+     */
+    @GetMapping("/kakao-circuit-breaker")
+    public ResponseEntity<Map<String, Object>> getKakaoCircuitBreakerStats() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("state", kakaoCircuitBreaker.state());
+        response.put("successes", kakaoCircuitBreaker.successCount());
+        response.put("failures", kakaoCircuitBreaker.failureCount());
+        response.put("rejected", kakaoCircuitBreaker.rejectedCount());
+        return ResponseEntity.ok(response);
+    }
+}
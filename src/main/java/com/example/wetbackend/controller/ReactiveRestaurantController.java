@@ -0,0 +1,84 @@
+package com.example.wetbackend.controller;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.service.ReactiveKakaoMapService;
+import com.example.wetbackend.service.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 식당 검색 논블로킹 API 컨트롤러
+ *
+ * /api/restaurants 의 검색/추천과 같은 결과를 반환하지만, 카카오 호출을 기다리는 동안
+ * 서블릿 스레드를 반환합니다(비동기 요청). 기존 MVC 엔드포인트와 나란히 두고 성능을 비교하기 위한 용도입니다.
+ * 클라이언트 연결이 끊기거나 시간이 초과되면 진행 중인 카카오 요청을 취소합니다.
+ */
+@RestController
+@RequestMapping("/api/reactive/restaurants")
+@RequiredArgsConstructor
+public class ReactiveRestaurantController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveRestaurantController.class);
+
+    private static final int MAX_RECOMMENDATION_LIMIT = 15;
+
+    private final ReactiveKakaoMapService reactiveKakaoMapService;
+    private final RecommendationService recommendationService;
+
+    /** 비동기 요청 최대 대기 시간 (카카오 타임아웃보다 길게) */
+    @Value("${reactive.request-timeout-ms:5000}")
+    private long requestTimeoutMs;
+
+    /**
+     * 주소 기반 주변 식당 검색 (논블로킹)
+     */
+    @GetMapping("/search")
+    public DeferredResult<ResponseEntity<List<RestaurantDto>>> searchRestaurants(@RequestParam String address) {
+        logger.info("식당 검색 요청 (reactive): {}", address);
+        return toDeferredResult(reactiveKakaoMapService.searchRestaurants(address + " 맛집")
+                .map(ResponseEntity::ok));
+    }
+
+    /**
+     * 주소 기반 맛집 추천 (논블로킹)
+     */
+    @GetMapping("/recommendation")
+    public DeferredResult<ResponseEntity<List<RestaurantDto>>> getRecommendedRestaurants(
+            @RequestParam String address,
+            @RequestParam(required = false) Double x,
+            @RequestParam(required = false) Double y,
+            @RequestParam(defaultValue = "3") int limit,
+            @RequestParam(defaultValue = "false") boolean diverse) {
+        logger.info("맛집 추천 요청 (reactive): {}", address);
+        int size = Math.max(1, Math.min(limit, MAX_RECOMMENDATION_LIMIT));
+        return toDeferredResult(reactiveKakaoMapService.searchRestaurants(address + " 맛집")
+                .map(candidates -> recommendationService.rank(candidates, x, y, size, diverse))
+                .map(ResponseEntity::ok));
+    }
+
+    /**
+     * Mono를 구독해 DeferredResult로 연결합니다.
+     * 시간 초과/클라이언트 연결 종료(onError) 시 구독을 취소해 카카오 요청도 중단합니다.
+     */
+    private <T> DeferredResult<T> toDeferredResult(Mono<T> mono) {
+        DeferredResult<T> result = new DeferredResult<>(requestTimeoutMs);
+        Disposable subscription = mono.subscribe(result::setResult, result::setErrorResult);
+        result.onTimeout(subscription::dispose);
+        result.onError(error -> subscription.dispose());
+        result.onCompletion(subscription::dispose);
+        return result;
+    }
+}
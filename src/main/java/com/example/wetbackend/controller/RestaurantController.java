@@ -1,14 +1,28 @@
 package com.example.wetbackend.controller;
 
+import com.example.wetbackend.model.LikeBatchRequest;
+import com.example.wetbackend.model.LikeBatchResult;
+import com.example.wetbackend.model.LikedRestaurantPage;
 import com.example.wetbackend.model.RestaurantDto;
 import com.example.wetbackend.model.RestaurantLikeRequest;
-import com.example.wetbackend.service.KakaoMapService;
+import com.example.wetbackend.service.BadRequestException;
+import com.example.wetbackend.service.LikeCountAggregator;
+import com.example.wetbackend.service.LikedStateService;
+import com.example.wetbackend.service.RecommendationService;
+import com.example.wetbackend.service.RestaurantSearchService;
 import com.example.wetbackend.service.RestaurantService;
+import com.example.wetbackend.service.UserNotFoundException;
+import com.example.wetbackend.support.LogSampling;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,63 +37,108 @@ public class RestaurantController {
 
     private static final Logger logger = LoggerFactory.getLogger(RestaurantController.class);
 
-    private final KakaoMapService kakaoMapService;
+    /** 찜 목록 다음 페이지 커서를 담는 응답 헤더 */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_LIKES_PAGE_SIZE = 100;
+    private static final int MAX_POPULAR_LIMIT = 50;
+    private static final int MAX_RECOMMENDATION_LIMIT = 15;
+    private static final double MAX_NEARBY_RADIUS_METERS = 5000;
+    private static final int MAX_NEARBY_LIMIT = 200;
+
+    private final RestaurantSearchService restaurantSearchService;
     private final RestaurantService restaurantService;
+    private final LikeCountAggregator likeCountAggregator;
+    private final RecommendationService recommendationService;
+    private final LikedStateService likedStateService;
+
+    /** 응답 전체를 DEBUG로 기록할 요청 비율 (0.0 ~ 1.0) */
+    @Value("${logging.payload.sample-rate:1.0}")
+    private double payloadSampleRate;
+
+    /** 일괄 찜하기 한 요청의 최대 항목 수 */
+    @Value("${like.batch.max-size:500}")
+    private int maxLikeBatchSize;
 
     /**
      * 주소 기반 주변 식당 검색
      * 
      * @param address 사용자가 선택한 주소 (예: "서울시 강남구 역삼동")
+     * @param userId  사용자 ID (선택, 주면 각 식당에 찜 여부(liked)를 포함)
      * @return 검색된 식당 목록
      */
     @GetMapping("/search")
-    public ResponseEntity<List<RestaurantDto>> searchRestaurants(@RequestParam String address) {
-        // 검색 요청 로깅
-        logger.info("========== 식당 검색 요청 ==========");
-        logger.info("요청 주소: {}", address);
-
-        // 검색어 생성: 주소 + " 맛집"
-        String query = address + " 맛집";
-
-        List<RestaurantDto> result = kakaoMapService.searchRestaurants(query);
+    public ResponseEntity<List<RestaurantDto>> searchRestaurants(@RequestParam String address,
+            @RequestParam(required = false) Long userId) {
+        long start = System.nanoTime();
+
+        // 저장된 식당에서 먼저 찾고, 부족하면 카카오 검색
+        List<RestaurantDto> result = restaurantSearchService.search(address);
+        if (userId != null) {
+            result = likedStateService.markLiked(userId, result);
+        }
 
-        // 검색 결과 로깅
-        logger.info("검색 완료. 결과 데이터: {}", result);
-        logger.info("==================================");
+        // 검색 요약 로깅 (결과 전체는 샘플링하여 DEBUG로만 기록)
+        logger.info("식당 검색 완료. 주소: {}, 결과: {}건, {}ms", address, result.size(), elapsedMillis(start));
+        logPayload("검색", result);
 
         return ResponseEntity.ok(result);
     }
 
     /**
-     * 주소 기반 맛집 추천 (랜덤 3개)
-     * 
+     * 주소 기반 맛집 추천
+     * 찜 수, 기준 좌표와의 거리, 검색 관련도를 함께 고려해 점수가 높은 식당을 추천합니다.
+     *
      * @param address 사용자가 선택한 주소
-     * @return 추천 식당 목록 (최대 3개)
+     * @param x       기준 경도 (선택, 없으면 검색 결과의 중심점 기준)
+     * @param y       기준 위도 (선택)
+     * @param limit   추천 개수 (기본 3)
+     * @param diverse true면 서로 다른 카테고리의 식당을 우선 추천
+     * @param userId  사용자 ID (선택, 주면 각 식당에 찜 여부(liked)를 포함)
+     * @return 추천 식당 목록 (최대 limit개)
      */
     @GetMapping("/recommendation")
-    public ResponseEntity<List<RestaurantDto>> getRecommendedRestaurants(@RequestParam String address) {
-        logger.info("========== 맛집 추천 요청 ==========");
-        logger.info("요청 주소: {}", address);
-
-        String query = address + " 맛집";
-        List<RestaurantDto> result = kakaoMapService.searchRestaurants(query);
-
-        if (result.isEmpty()) {
-            return ResponseEntity.ok(result);
+    public ResponseEntity<List<RestaurantDto>> getRecommendedRestaurants(@RequestParam String address,
+            @RequestParam(required = false) Double x,
+            @RequestParam(required = false) Double y,
+            @RequestParam(defaultValue = "3") int limit,
+            @RequestParam(defaultValue = "false") boolean diverse,
+            @RequestParam(required = false) Long userId) {
+        long start = System.nanoTime();
+
+        int size = Math.max(1, Math.min(limit, MAX_RECOMMENDATION_LIMIT));
+        List<RestaurantDto> recommendations = recommendationService.recommend(address, x, y, size, diverse);
+        if (userId != null) {
+            recommendations = likedStateService.markLiked(userId, recommendations);
         }
 
-        // 결과 섞기
-        java.util.Collections.shuffle(result);
-
-        // 최대 3개 추출
-        List<RestaurantDto> recommendations = result.subList(0, Math.min(result.size(), 3));
-
-        logger.info("추천 완료. 결과 데이터: {}", recommendations);
-        logger.info("==================================");
+        logger.info("맛집 추천 완료. 주소: {}, 결과: {}건, {}ms", address, recommendations.size(), elapsedMillis(start));
+        logPayload("추천", recommendations);
 
         return ResponseEntity.ok(recommendations);
     }
 
+    /**
+     * 좌표 기반 주변 식당 조회 (카카오를 호출하지 않고 우리 DB의 식당 목록에서 조회)
+     *
+     * @param lat    위도
+     * @param lng    경도
+     * @param radius 반경 (미터, 기본 1000, 최대 5000)
+     * @param limit  최대 개수 (기본 50)
+     * @return 반경 안의 식당 목록 (가까운 순)
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<RestaurantDto>> getNearbyRestaurants(@RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "1000") double radius,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            return ResponseEntity.badRequest().build();
+        }
+        double radiusMeters = Math.max(1, Math.min(radius, MAX_NEARBY_RADIUS_METERS));
+        int size = Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT));
+        return ResponseEntity.ok(restaurantService.getNearbyRestaurants(lat, lng, radiusMeters, size));
+    }
+
     /**
      * 식당 찜하기 (토글)
      * DB에 없는 식당이면 자동 저장 후 찜 처리
@@ -91,11 +150,92 @@ public class RestaurantController {
     }
 
     /**
-     * 내가 찜한 식당 목록 조회
+     * 일괄 찜하기/찜취소 (오프라인에서 모아 둔 찜 상태 동기화)
+     * 항목별로 찜(liked=true) 또는 찜 취소(liked=false)할 상태를 지정하며, 한 트랜잭션으로 반영됩니다.
+     * 토글이 아니므로 같은 요청을 다시 보내도 결과가 같습니다.
+     */
+    @PostMapping("/likes/batch")
+    public ResponseEntity<LikeBatchResult> applyLikes(@RequestBody LikeBatchRequest request) {
+        if (request.getUserId() == null || request.getLikes() == null
+                || request.getLikes().size() > maxLikeBatchSize) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(restaurantService.applyLikes(request.getUserId(), request.getLikes()));
+    }
+
+    /**
+     * 내가 찜한 식당 목록 조회 (최근 찜한 순)
+     * size를 주면 키셋 페이지네이션으로 동작하며, 다음 페이지가 있으면 X-Next-Cursor 헤더에 커서를 담아 줍니다.
+     * 다음 요청의 cursor 파라미터로 그대로 전달하면 됩니다. size가 없으면 전체 목록을 반환합니다.
+     * 형식이 틀린 커서는 400, 없는 사용자는 404로 응답합니다.
+     *
+     * 응답에는 사용자별 찜 목록 버전(DB의 찜 수/마지막 찜/식당 변경 시각)으로 만든 ETag가 붙습니다.
+     * If-None-Match가 현재 값과 같으면 목록을 조회하지 않고 304로 응답합니다. 없는 사용자는 버전을 만들 때
+     * 404로 끝나므로 304를 받지 않습니다. (압축 시에도 비교되도록 약한(W/) ETag 사용)
      */
     @GetMapping("/likes")
-    public ResponseEntity<List<RestaurantDto>> getMyLikes(@RequestParam Long userId) {
-        List<RestaurantDto> likes = restaurantService.getLikedRestaurants(userId);
-        return ResponseEntity.ok(likes);
+    public ResponseEntity<List<RestaurantDto>> getMyLikes(@RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            ServletWebRequest webRequest) {
+        Integer pageSize = size == null ? null : Math.max(1, Math.min(size, MAX_LIKES_PAGE_SIZE));
+
+        // 같은 버전이라도 페이지(커서, 크기)마다 내용이 다르므로 함께 태그에 넣음
+        String etag = "W/\"" + likedStateService.likeVersion(userId) + "-"
+                + Integer.toHexString(Objects.hash(cursor, pageSize)) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null; // 304 Not Modified (ETag 헤더는 checkNotModified가 설정)
+        }
+
+        LikedRestaurantPage page = restaurantService.getLikedRestaurants(userId, cursor, pageSize);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getRestaurants());
+    }
+
+    /**
+     * 인기 식당 목록 (찜 수 많은 순)
+     * DB를 조회하지 않고 메모리에 집계된 찜 수로 응답합니다. 각 항목에 likeCount가 포함됩니다.
+     *
+     * @param limit 최대 개수 (기본 10, 최대 50)
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<RestaurantDto>> getPopularRestaurants(@RequestParam(defaultValue = "10") int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_POPULAR_LIMIT));
+        return ResponseEntity.ok(likeCountAggregator.getPopularRestaurants(size));
+    }
+
+    /**
+     * 없는 사용자 → 404 Not Found
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<Map<String, String>> handleUserNotFound(UserNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("message", e.getMessage()));
+    }
+
+    /**
+     * 잘못된 요청 값 (형식이 틀린 커서, 식당 id 누락 등) → 400 Bad Request
+     * 그 밖의 예외(내부 오류)는 메시지를 노출하지 않도록 여기서 처리하지 않습니다.
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(BadRequestException e) {
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+
+    /**
+     * 응답 전체 로깅 (logging.payload.sample-rate 비율만, DEBUG)
+     * 목록 전체를 문자열로 만드는 비용이 크므로 샘플링에 걸린 요청만 기록합니다.
+     */
+    private void logPayload(String action, List<RestaurantDto> result) {
+        if (logger.isDebugEnabled() && LogSampling.sample(payloadSampleRate)) {
+            logger.debug("{} 결과 데이터: {}", action, result);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
     }
 }
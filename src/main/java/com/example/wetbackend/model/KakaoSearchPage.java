@@ -0,0 +1,20 @@
+package com.example.wetbackend.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 카카오 키워드 검색 응답 한 페이지
+ * 응답 document를 곧바로 RestaurantDto로 변환해 담습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class KakaoSearchPage {
+
+    public static final KakaoSearchPage EMPTY = new KakaoSearchPage(null, List.of());
+
+    private final KakaoSearchResponse.Meta meta; // 페이지 정보 (없을 수 있음)
+    private final List<RestaurantDto> restaurants;
+}
@@ -0,0 +1,24 @@
+package com.example.wetbackend.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 찜하기/찜취소 요청 (오프라인에서 모아 둔 찜 상태 동기화)
+ * 같은 식당이 여러 번 들어오면 마지막 항목만 반영합니다.
+ */
+@Data
+@NoArgsConstructor
+public class LikeBatchRequest {
+    private Long userId;
+    private List<Item> likes;
+
+    @Data
+    @NoArgsConstructor
+    public static class Item {
+        private RestaurantDto restaurant;
+        private boolean liked; // true: 찜, false: 찜 취소
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.wetbackend.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 찜하기 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class LikeBatchResult {
+    private final int liked;     // 새로 찜한 식당 수
+    private final int unliked;   // 찜 취소한 식당 수
+    private final int unchanged; // 이미 요청한 상태였던 식당 수
+}
@@ -0,0 +1,30 @@
+package com.example.wetbackend.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 찜 목록 키셋(keyset) 페이지네이션 커서
+ * 마지막으로 받은 행의 (created_at, id)를 URL-safe Base64 문자열로 인코딩합니다.
+ */
+public record LikeCursor(LocalDateTime likedAt, long likeId) {
+
+    public String encode() {
+        String raw = likedAt + "_" + likeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static LikeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('_');
+            return new LikeCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.wetbackend.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 찜 목록 한 페이지
+ * nextCursor가 null이면 마지막 페이지입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LikedRestaurantPage {
+    private final List<RestaurantDto> restaurants;
+    private final String nextCursor;
+}
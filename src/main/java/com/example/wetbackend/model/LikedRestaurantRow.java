@@ -0,0 +1,36 @@
+package com.example.wetbackend.model;
+
+import com.example.wetbackend.support.GeoUtils;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 찜 목록 조회 결과 한 행 (JPQL 생성자 프로젝션)
+ * 식당 정보는 곧바로 RestaurantDto로 담고, 다음 페이지 커서 계산용으로 찜 ID와 찜한 시각을 함께 가집니다.
+ */
+@Getter
+public class LikedRestaurantRow {
+
+    private final Long likeId;
+    private final LocalDateTime likedAt;
+    private final RestaurantDto restaurant;
+
+    public LikedRestaurantRow(Long likeId, LocalDateTime likedAt,
+            String kakaoId, String name, String category, String phone,
+            String address, String roadAddress, Double x, Double y, String placeUrl) {
+        this.likeId = likeId;
+        this.likedAt = likedAt;
+        this.restaurant = RestaurantDto.builder()
+                .id(kakaoId)
+                .name(name)
+                .category(category)
+                .phone(phone)
+                .address(address)
+                .roadAddress(roadAddress)
+                .x(GeoUtils.formatCoordinate(x))
+                .y(GeoUtils.formatCoordinate(y))
+                .placeUrl(placeUrl)
+                .build();
+    }
+}
@@ -1,12 +1,13 @@
 package com.example.wetbackend.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class RestaurantDto {
@@ -19,4 +20,10 @@ public class RestaurantDto {
     private String x; // X 좌표 (경도)
     private String y; // Y 좌표 (위도)
     private String placeUrl; // 장소 상세 페이지 URL
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long likeCount; // 찜한 사용자 수 (인기 식당 조회 시에만 포함)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean liked; // 요청한 사용자의 찜 여부 (검색/추천에 userId를 줬을 때만 포함)
 }
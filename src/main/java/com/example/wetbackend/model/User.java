@@ -1,6 +1,9 @@
 package com.example.wetbackend.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 
 /**
@@ -9,9 +12,13 @@ import java.time.LocalDateTime;
  * 
  * @Entity: 이 클래스가 JPA 엔티티임을 나타냄 (데이터베이스 테이블과 매핑)
  * @Table: 매핑될 테이블 이름을 지정 (기본값은 클래스명의 소문자)
+ * @Cache: Hibernate 2차 캐시 대상 (hibernate.cache.use_second_level_cache=true 일 때만 사용)
+ *         READ_WRITE: JPA로 수정/삭제하면 커밋 시점에 캐시도 함께 갱신됩니다.
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
 
     /**
@@ -12,7 +12,11 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "restaurants")
+@Table(name = "restaurants", indexes = {
+        @Index(name = "idx_restaurants_like_count", columnList = "like_count"),
+        // 주변 식당 조회: 위도 범위로 좁힌 뒤 경도로 거름 (bounding box)
+        @Index(name = "idx_restaurants_lat_lng", columnList = "latitude, longitude")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,8 +24,12 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Restaurant {
 
+    // IDENTITY는 INSERT마다 생성된 키를 받아야 해서 JDBC 배치가 꺼지므로 시퀀스를 사용
+    // 네이티브 INSERT도 NEXT VALUE FOR restaurants_seq로 id를 채우므로 블록 할당(pooled) 없이 1씩 받음
+    // (50개씩 미리 할당하면 Hibernate가 잡아 둔 구간과 네이티브 INSERT 값이 겹칠 수 있음)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "restaurants_seq")
+    @SequenceGenerator(name = "restaurants_seq", sequenceName = "restaurants_seq", allocationSize = 1)
     private Long id;
 
     @Column(name = "kakao_id", nullable = false, unique = true)
@@ -39,15 +47,24 @@ public class Restaurant {
     @Column(name = "road_address")
     private String roadAddress;
 
-    @Column(name = "x_coordinate")
-    private String x;
+    @Column(name = "longitude")
+    private Double x; // 경도 (X)
 
-    @Column(name = "y_coordinate")
-    private String y;
+    @Column(name = "latitude")
+    private Double y; // 위도 (Y)
 
     @Column(name = "place_url")
     private String placeUrl;
 
+    /**
+     * 찜한 사용자 수
+     * LikeCountAggregator가 모아서 일괄 UPDATE 하므로 JPA로는 쓰지 않습니다.
+     */
+    @Builder.Default
+    @Column(name = "like_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long likeCount = 0L;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "restaurant_likes", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "user_id", "restaurant_id" })
+}, indexes = {
+        // 사용자별 찜 목록 키셋 페이지네이션용 (다른 사용자 행을 읽지 않음)
+        @Index(name = "idx_likes_user_created", columnList = "user_id, created_at, id")
 })
 @Getter
 @NoArgsConstructor
@@ -22,8 +25,10 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class RestaurantLike {
 
+    // 배치 INSERT가 가능하도록 시퀀스 사용, 네이티브 INSERT와 공유하므로 1씩 할당 (Restaurant 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "restaurant_likes_seq")
+    @SequenceGenerator(name = "restaurant_likes_seq", sequenceName = "restaurant_likes_seq", allocationSize = 1)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,40 @@
+package com.example.wetbackend.model.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 카카오 검색 결과 DB 캐시 (인스턴스 간 공유, 재배포 후에도 유지)
+ * 읽기/쓰기는 SearchCacheStore가 JdbcTemplate으로 직접 수행하며, 이 엔티티는 테이블 정의용입니다.
+ */
+@Entity
+@Table(name = "search_cache", indexes = {
+        // 만료 행 정리 (expires_at < now)
+        @Index(name = "idx_search_cache_expires", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+public class SearchCacheEntry {
+
+    /** 정규화된 검색어 (KakaoMapService.normalizeQuery) */
+    @Id
+    @Column(name = "query_key", length = 255)
+    private String queryKey;
+
+    /** List<RestaurantDto> JSON을 gzip으로 압축한 값 */
+    @Column(name = "payload", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] payload;
+
+    @Column(name = "result_count", nullable = false)
+    private int resultCount;
+
+    /** 카카오에서 조회한 시각 */
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -1,18 +1,72 @@
 package com.example.wetbackend.repository;
 
-import com.example.wetbackend.model.User;
-import com.example.wetbackend.model.entity.Restaurant;
+import com.example.wetbackend.model.LikedRestaurantRow;
 import com.example.wetbackend.model.entity.RestaurantLike;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface RestaurantLikeRepository extends JpaRepository<RestaurantLike, Long> {
-    boolean existsByUserAndRestaurant(User user, Restaurant restaurant);
+    /**
+     * 찜 삭제 (식당을 엔티티로 읽지 않고 kakao_id로 바로 삭제)
+     *
+     * @return 삭제된 행 수 (0이면 찜하지 않은 상태였음)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "restaurant_likes")) // 사용자 캐시는 비우지 않음
+    @Query(value = "DELETE FROM restaurant_likes "
+            + "WHERE user_id = :userId "
+            + "AND restaurant_id = (SELECT r.id FROM restaurants r WHERE r.kakao_id = :kakaoId)",
+            nativeQuery = true)
+    int deleteLike(@Param("userId") Long userId, @Param("kakaoId") String kakaoId);
 
-    Optional<RestaurantLike> findByUserAndRestaurant(User user, Restaurant restaurant);
+    /**
+     * 찜 추가 (이미 있으면 아무것도 하지 않음)
+     * 동시 요청이 먼저 넣었더라도 uk_user_restaurant 위반 없이 무시됩니다.
+     * ON DUPLICATE KEY UPDATE는 드라이버 기본 설정(found rows)에서 중복이어도 1을 반환하므로 INSERT IGNORE를 사용합니다.
+     * MariaDB의 INSERT IGNORE는 없는 사용자(FK 위반)도 0으로 무시하므로, 0일 때 호출 측에서 사용자 존재를 확인합니다.
+     *
+     * @return 추가된 행 수 (1: 새로 찜함, 0: 이미 찜한 상태였거나 사용자가 없음)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "restaurant_likes"))
+    @Query(value = "INSERT IGNORE INTO restaurant_likes (id, user_id, restaurant_id, created_at) "
+            + "SELECT NEXT VALUE FOR restaurant_likes_seq, :userId, r.id, CURRENT_TIMESTAMP(6) FROM restaurants r WHERE r.kakao_id = :kakaoId",
+            nativeQuery = true)
+    int insertLike(@Param("userId") Long userId, @Param("kakaoId") String kakaoId);
 
-    void deleteByUserAndRestaurant(User user, Restaurant restaurant);
+    /**
+     * 사용자의 찜 목록 첫 페이지 (최근 찜한 순)
+     * idx_likes_user_created (user_id, created_at, id) 인덱스 범위만 읽습니다.
+     */
+    @Query("select new com.example.wetbackend.model.LikedRestaurantRow("
+            + "l.id, l.createdAt, r.kakaoId, r.name, r.category, r.phone, r.address, r.roadAddress, r.x, r.y, r.placeUrl) "
+            + "from RestaurantLike l join l.restaurant r "
+            + "where l.user.id = :userId "
+            + "order by l.createdAt desc, l.id desc")
+    List<LikedRestaurantRow> findLikedRestaurants(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자의 찜 목록 다음 페이지: 커서 (createdAt, id) 이후의 행
+     */
+    @Query("select new com.example.wetbackend.model.LikedRestaurantRow("
+            + "l.id, l.createdAt, r.kakaoId, r.name, r.category, r.phone, r.address, r.roadAddress, r.x, r.y, r.placeUrl) "
+            + "from RestaurantLike l join l.restaurant r "
+            + "where l.user.id = :userId "
+            + "and (l.createdAt < :likedAt or (l.createdAt = :likedAt and l.id < :likeId)) "
+            + "order by l.createdAt desc, l.id desc")
+    List<LikedRestaurantRow> findLikedRestaurantsAfter(@Param("userId") Long userId,
+            @Param("likedAt") LocalDateTime likedAt,
+            @Param("likeId") Long likeId,
+            Pageable pageable);
 }
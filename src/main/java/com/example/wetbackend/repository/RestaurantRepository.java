@@ -1,14 +1,58 @@
 package com.example.wetbackend.repository;
 
+import com.example.wetbackend.model.RestaurantDto;
 import com.example.wetbackend.model.entity.Restaurant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
-    Optional<Restaurant> findByKakaoId(String kakaoId);
 
-    boolean existsByKakaoId(String kakaoId);
+    /**
+     * kakao_id 기준 식당 upsert (없으면 추가, 있으면 카카오 최신 정보로 갱신)
+     * 조회 후 저장하는 대신 한 문장으로 처리하므로 동시 요청에도 kakao_id 중복 오류가 나지 않습니다.
+     *
+     * 네이티브 DML은 기본적으로 2차 캐시 전체를 비우므로 실제로 바꾸는 테이블(restaurants)만 query space로 지정합니다.
+     * 식당은 2차 캐시 대상이 아니므로 찜할 때마다 사용자 캐시가 비워지지 않습니다.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "restaurants"))
+    @Query(value = "INSERT INTO restaurants "
+            + "(id, kakao_id, name, category, phone, address, road_address, longitude, latitude, place_url, created_at, updated_at) "
+            + "VALUES (NEXT VALUE FOR restaurants_seq, "
+            + ":#{#dto.id}, :#{#dto.name}, :#{#dto.category}, :#{#dto.phone}, :#{#dto.address}, :#{#dto.roadAddress}, "
+            + ":#{T(com.example.wetbackend.support.GeoUtils).parseCoordinate(#dto.x)}, "
+            + ":#{T(com.example.wetbackend.support.GeoUtils).parseCoordinate(#dto.y)}, "
+            + ":#{#dto.placeUrl}, CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)) "
+            + "ON DUPLICATE KEY UPDATE name = VALUES(name), category = VALUES(category), phone = VALUES(phone), "
+            + "address = VALUES(address), road_address = VALUES(road_address), "
+            + "longitude = VALUES(longitude), latitude = VALUES(latitude), place_url = VALUES(place_url), "
+            + "updated_at = CURRENT_TIMESTAMP(6)",
+            nativeQuery = true)
+    int upsertByKakaoId(@Param("dto") RestaurantDto dto);
+
+    /**
+     * 좌표 범위(bounding box) 안의 식당을 기준점에서 가까운 순으로 조회
+     * idx_restaurants_lat_lng 인덱스로 위도 범위만 읽고, 정렬은 등장방형(equirectangular) 근사 거리로 합니다.
+     *
+     * @param lngScale 기준 위도의 cos 값 (경도 1도의 길이 보정)
+     */
+    @Query(value = "SELECT r.* FROM restaurants r "
+            + "WHERE r.latitude BETWEEN :minLat AND :maxLat "
+            + "AND r.longitude BETWEEN :minLng AND :maxLng "
+            + "ORDER BY POW(r.latitude - :lat, 2) + POW((r.longitude - :lng) * :lngScale, 2) "
+            + "LIMIT :limit",
+            nativeQuery = true)
+    List<Restaurant> findInBoundingBox(@Param("minLat") double minLat, @Param("maxLat") double maxLat,
+            @Param("minLng") double minLng, @Param("maxLng") double maxLng,
+            @Param("lat") double lat, @Param("lng") double lng, @Param("lngScale") double lngScale,
+            @Param("limit") int limit);
 }
@@ -0,0 +1,16 @@
+package com.example.wetbackend.service;
+
+/**
+ * 클라이언트가 보낸 값이 잘못되었을 때 던지는 예외 (API에서는 400으로 응답)
+ * 메시지는 응답 본문에 그대로 담기므로 클라이언트에게 보여도 되는 내용만 넣습니다.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
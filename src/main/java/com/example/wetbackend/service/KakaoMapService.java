@@ -1,10 +1,17 @@
 package com.example.wetbackend.service;
 
+import com.example.wetbackend.model.KakaoSearchPage;
 import com.example.wetbackend.model.KakaoSearchResponse;
 import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.support.CircuitBreaker;
+import com.example.wetbackend.support.RestaurantMapper;
+import com.example.wetbackend.support.SingleFlight;
+import com.example.wetbackend.support.TtlLruCache;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -14,16 +21,37 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KakaoMapService {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int KAKAO_MAX_PAGE = 45; // 카카오 키워드 검색 API의 최대 페이지 번호
+
     private final RestTemplate restTemplate;
+    private final TtlLruCache<String, List<RestaurantDto>> searchResultCache;
+    private final SingleFlight<String, List<RestaurantDto>> searchSingleFlight;
+    private final AsyncTaskExecutor kakaoSearchExecutor;
+    private final AsyncTaskExecutor kakaoFetchExecutor;
+    private final CircuitBreaker kakaoCircuitBreaker;
+    private final KakaoResponseParser kakaoResponseParser;
+    private final KakaoSearchMetrics kakaoSearchMetrics;
+    private final SearchCacheStore searchCacheStore;
 
     @Value("${kakao.api.key}")
     private String kakaoApiKey;
@@ -31,59 +59,296 @@ public class KakaoMapService {
     @Value("${kakao.api.url}")
     private String kakaoApiUrl;
 
+    /** 검색어당 조회할 최대 페이지 수 (1이면 첫 페이지만 조회) */
+    @Value("${kakao.search.max-pages:1}")
+    private int maxPages;
+
+    /** 페이지당 결과 수 (카카오 최대 15) */
+    @Value("${kakao.search.page-size:15}")
+    private int pageSize;
+
+    /** 다중 페이지 조회 전체 마감 시간. 이 시간 안에 도착한 페이지만 결과에 포함합니다. */
+    @Value("${kakao.search.deadline-ms:2000}")
+    private long deadlineMs;
+
+    /** 일부 페이지가 빠진 결과를 메모리 캐시에 두는 시간 */
+    @Value("${kakao.search.partial-ttl-seconds:30}")
+    private long partialTtlSeconds;
+
+    /** 이전 결과(stale)가 있을 때 카카오 응답을 기다리는 최대 시간. 초과하면 이전 결과로 응답하고 갱신은 백그라운드에서 계속 */
+    @Value("${kakao.fallback.stale-deadline-ms:800}")
+    private long staleDeadlineMs;
+
+    /** 이전 결과가 없을 때 카카오 응답을 기다리는 최대 시간 */
+    @Value("${kakao.single-flight.wait-timeout-ms:5000}")
+    private long waitTimeoutMs;
+
+    /** 이 시간보다 오래 걸린 호출은 성공해도 서킷 브레이커에 실패로 기록 */
+    @Value("${kakao.circuit-breaker.slow-call-ms:2000}")
+    private long slowCallMs;
+
+    /** true면 응답을 스트리밍 파서로 곧바로 RestaurantDto로 변환, false면 KakaoSearchResponse로 역직렬화 후 변환 */
+    @Value("${kakao.search.streaming-parser:true}")
+    private boolean streamingParser;
+
+    /**
+     * 키워드로 식당을 검색합니다.
+     * 검색어는 정규화(normalizeQuery)한 값으로 카카오에 보내고 같은 값을 캐시 키로 씁니다.
+     * 같은 검색어(정규화 기준)는 캐시 만료 전까지 카카오를 다시 호출하지 않으며,
+     * 동시에 들어온 같은 검색어는 하나의 카카오 호출 결과를 공유합니다.
+     * 호출자가 결과를 자유롭게 수정(shuffle 등)할 수 있도록 항상 새 리스트를 반환합니다.
+     *
+     * 카카오 장애 대응 (stale-while-revalidate):
+     * - 서킷이 열려 있으면 카카오를 호출하지 않고 DB 캐시 또는 마지막 정상 결과(없으면 빈 목록)로 즉시 응답
+     * - 마지막 정상 결과가 있으면 staleDeadlineMs까지만 기다리고, 늦으면 대체 결과로 응답
+     *   (카카오 호출은 백그라운드에서 계속되어 캐시를 갱신)
+     * - 오류가 나면 DB 캐시, 마지막 정상 결과, 빈 목록 순으로 응답
+     */
     public List<RestaurantDto> searchRestaurants(String query) {
         if (query == null || query.trim().isEmpty()) {
             return Collections.emptyList();
         }
 
-        // 카카오 API 호출을 위한 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+        Timer.Sample sample = kakaoSearchMetrics.start();
+        String cacheKey = normalizeQuery(query);
+        List<RestaurantDto> cached = searchResultCache.get(cacheKey);
+        if (cached != null) {
+            log.debug("Kakao 검색 캐시 적중: {}", cacheKey);
+            kakaoSearchMetrics.recordHit(sample, cached);
+            return new ArrayList<>(cached);
+        }
+
+        // 서킷이 열려 있으면 카카오 응답을 기다리지 않고 즉시 대체 결과로 응답
+        if (!kakaoCircuitBreaker.isCallPermitted()) {
+            return fallback(cacheKey, sample,
+                    new CircuitBreaker.CallNotPermittedException("Kakao circuit breaker is open"));
+        }
+
+        // 이전 결과가 있으면 짧게만 기다림 (늦으면 이전 결과로 응답)
+        long timeoutMs = searchResultCache.contains(cacheKey) ? staleDeadlineMs : waitTimeoutMs;
+        CompletableFuture<List<RestaurantDto>> future = searchSingleFlight.executeAsync(
+                cacheKey, () -> fetchAndCache(cacheKey), kakaoFetchExecutor);
+        try {
+            List<RestaurantDto> result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            kakaoSearchMetrics.recordMiss(sample, result);
+            return new ArrayList<>(result);
+        } catch (TimeoutException e) {
+            log.warn("Kakao API 응답 지연 ({}ms 초과), 갱신은 백그라운드에서 계속: {}", timeoutMs, cacheKey);
+            return fallback(cacheKey, sample, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof CircuitBreaker.CallNotPermittedException) {
+                log.debug("Kakao 서킷 열림, 호출 생략: {}", cacheKey);
+            } else if (cause instanceof RejectedExecutionException) {
+                log.warn("Kakao 호출 실행기 포화, 호출 생략: {}", cacheKey);
+            } else {
+                log.error("Kakao API 호출 중 오류 발생: {}", cause.getMessage(), cause);
+            }
+            return fallback(cacheKey, sample, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback(cacheKey, sample, e);
+        }
+    }
+
+    /**
+     * 카카오 결과를 쓸 수 없을 때의 대체 결과
+     * DB 캐시(2차)에 만료되지 않은 결과가 있으면 그 결과를 메모리 캐시에도 넣어 응답하고,
+     * 없으면 마지막 정상 결과(만료되었어도 보관 중이면), 그것도 없으면 빈 목록을 반환합니다.
+     * 재시작 직후처럼 메모리 캐시가 비어 있을 때도 DB에 남은 결과로 응답하기 위함입니다.
+     */
+    private List<RestaurantDto> fallback(String cacheKey, Timer.Sample sample, Throwable cause) {
+        // 서킷 거절은 빠른 경로(isCallPermitted)와 leader의 허가 실패 모두 여기서 요청당 한 번만 집계
+        if (cause instanceof CircuitBreaker.CallNotPermittedException) {
+            kakaoCircuitBreaker.onRejected();
+        }
+        List<RestaurantDto> stored = searchCacheStore.find(cacheKey);
+        if (stored != null) {
+            searchResultCache.put(cacheKey, stored);
+            kakaoSearchMetrics.recordStale(sample, cause);
+            return new ArrayList<>(stored);
+        }
+        List<RestaurantDto> stale = searchResultCache.getStale(cacheKey);
+        if (stale != null) {
+            kakaoSearchMetrics.recordStale(sample, cause);
+            return new ArrayList<>(stale);
+        }
+        kakaoSearchMetrics.recordError(sample, cause);
+        return Collections.emptyList();
+    }
+
+    /**
+     * DB 캐시(2차)에 결과가 있으면 그 결과를, 없으면 카카오 API를 호출하고 정상 응답을 캐시에 저장합니다.
+     * 오류는 호출자(및 single-flight 대기자 전원)에게 예외로 전파됩니다.
+     * 첫 페이지 호출 결과(오류, slowCallMs 초과)는 서킷 브레이커에 기록됩니다. 나머지 페이지는 deadlineMs로
+     * 기다리는 시간이 제한되고 실패/지연은 페이지 지표(kakao.search.page.failures)로만 집계합니다.
+     * (서킷은 카카오가 응답하는지를 판단하므로 항상 호출되는 첫 페이지의 지연만 봅니다)
+     *
+     * 첫 페이지의 meta(pageable_count, is_end)로 남은 페이지 수를 계산해
+     * 나머지 페이지는 kakaoSearchExecutor에서 동시에 조회합니다. (전체 지연 ≈ 가장 느린 페이지)
+     * 실행기가 거절했거나 마감 시간 안에 도착하지 못한 페이지는 제외합니다. 이렇게 일부만 모은 결과는
+     * DB 캐시에 저장하지 않고 메모리 캐시에 partialTtlSeconds 동안만 두어, 그동안 같은 검색어가
+     * 카카오를 반복 호출하지 않게 합니다.
+     */
+    private List<RestaurantDto> fetchAndCache(String cacheKey) {
+        // leader가 되기 직전에 다른 요청이 캐시를 채웠을 수 있으므로 한 번 더 확인 (miss는 호출자가 이미 집계)
+        List<RestaurantDto> cached = searchResultCache.peek(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 2차 캐시: 다른 인스턴스나 재시작 전에 저장된 결과
+        List<RestaurantDto> stored = searchCacheStore.find(cacheKey);
+        if (stored != null) {
+            searchResultCache.put(cacheKey, stored);
+            return stored;
+        }
+
+        if (!kakaoCircuitBreaker.tryAcquirePermission()) {
+            throw new CircuitBreaker.CallNotPermittedException("Kakao circuit breaker is open");
+        }
+
+        long start = System.nanoTime();
+        KakaoSearchPage first;
+        try {
+            first = fetchPage(cacheKey, 1);
+        } catch (Throwable t) {
+            kakaoCircuitBreaker.onFailure();
+            throw t;
+        }
+        if (System.nanoTime() - start > TimeUnit.MILLISECONDS.toNanos(slowCallMs)) {
+            log.warn("Kakao API 응답 지연: {}ms", (System.nanoTime() - start) / 1_000_000);
+            kakaoCircuitBreaker.onFailure();
+        } else {
+            kakaoCircuitBreaker.onSuccess();
+        }
+
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        // 장소 ID 기준 중복 제거 (페이지 순서 유지)
+        Map<String, RestaurantDto> merged = new LinkedHashMap<>();
+        addDocuments(merged, first);
+
+        boolean complete = true;
+        int lastPage = lastPage(first.getMeta());
+        if (lastPage > 1) {
+            List<CompletableFuture<KakaoSearchPage>> pages = new ArrayList<>();
+            for (int page = 2; page <= lastPage; page++) {
+                int p = page;
+                try {
+                    pages.add(CompletableFuture.supplyAsync(() -> fetchPage(cacheKey, p), kakaoSearchExecutor));
+                } catch (RejectedExecutionException e) {
+                    // 실행기가 포화 상태면 남은 페이지도 거절되므로 더 제출하지 않음
+                    log.warn("Kakao 페이지 실행기 포화, {}~{} 페이지 제외: {}", page, lastPage, cacheKey);
+                    kakaoSearchMetrics.recordPageRejected(lastPage - page + 1);
+                    complete = false;
+                    break;
+                }
+            }
+
+            try {
+                CompletableFuture.allOf(pages.toArray(new CompletableFuture[0]))
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                log.warn("Kakao 페이지 조회 마감 시간 초과 ({}ms): {}", deadlineMs, cacheKey);
+            } catch (ExecutionException e) {
+                log.warn("Kakao 페이지 조회 일부 실패: {}", e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            for (CompletableFuture<KakaoSearchPage> page : pages) {
+                if (page.isDone() && !page.isCompletedExceptionally()) {
+                    addDocuments(merged, page.join());
+                } else {
+                    complete = false;
+                    if (page.isDone()) {
+                        kakaoSearchMetrics.recordPageError();
+                    } else {
+                        kakaoSearchMetrics.recordPageTimeout();
+                    }
+                    page.cancel(true);
+                }
+            }
+        }
 
+        List<RestaurantDto> result = List.copyOf(merged.values());
+
+        // 모든 페이지를 받은 결과만 DB 캐시까지 저장하고, 일부 페이지가 빠진 결과는 짧게만 재사용
+        if (complete) {
+            searchResultCache.put(cacheKey, result);
+            searchCacheStore.save(cacheKey, result);
+        } else {
+            searchResultCache.put(cacheKey, result, Duration.ofSeconds(partialTtlSeconds));
+        }
+        return result;
+    }
+
+    /**
+     * 카카오 키워드 검색 API의 한 페이지를 조회합니다.
+     */
+    private KakaoSearchPage fetchPage(String query, int page) {
         // URL 생성 (검색어 + 카테고리 그룹 코드 FD6: 음식점)
         URI uri = UriComponentsBuilder.fromHttpUrl(kakaoApiUrl)
                 .queryParam("query", query)
                 .queryParam("category_group_code", "FD6") // 음식점 카테고리 필터링
+                .queryParam("page", page)
+                .queryParam("size", pageSize)
                 .build()
                 .encode()
                 .toUri();
 
-        log.info("Kakao API Request: {}", uri);
+        log.debug("Kakao API Request: {}", uri);
 
-        try {
-            ResponseEntity<KakaoSearchResponse> response = restTemplate.exchange(
+        if (streamingParser) {
+            KakaoSearchPage result = restTemplate.execute(
                     uri,
                     HttpMethod.GET,
-                    entity,
-                    KakaoSearchResponse.class);
+                    request -> request.getHeaders().set("Authorization", "KakaoAK " + kakaoApiKey),
+                    response -> kakaoResponseParser.parse(response.getBody()));
+            return result != null ? result : KakaoSearchPage.EMPTY;
+        }
 
-            KakaoSearchResponse body = response.getBody();
-            if (body == null || body.getDocuments() == null) {
-                return Collections.emptyList();
-            }
+        // 카카오 API 호출을 위한 헤더 설정
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+        HttpEntity<String> entity = new HttpEntity<>(headers);
 
-            return body.getDocuments().stream()
-                    .map(this::convertToDto)
-                    .collect(Collectors.toList());
+        ResponseEntity<KakaoSearchResponse> response = restTemplate.exchange(
+                uri,
+                HttpMethod.GET,
+                entity,
+                KakaoSearchResponse.class);
 
-        } catch (Exception e) {
-            log.error("Kakao API 호출 중 오류 발생: {}", e.getMessage(), e);
-            return Collections.emptyList();
+        return RestaurantMapper.toPage(response.getBody());
+    }
+
+    /**
+     * 첫 페이지 meta로 조회할 마지막 페이지 번호를 계산합니다.
+     */
+    private int lastPage(KakaoSearchResponse.Meta meta) {
+        if (maxPages <= 1 || meta == null || meta.isEnd()) {
+            return 1;
+        }
+        int available = (meta.getPageableCount() + pageSize - 1) / pageSize;
+        return Math.min(Math.min(available, maxPages), KAKAO_MAX_PAGE);
+    }
+
+    private void addDocuments(Map<String, RestaurantDto> merged, KakaoSearchPage page) {
+        for (RestaurantDto restaurant : page.getRestaurants()) {
+            merged.putIfAbsent(restaurant.getId(), restaurant);
         }
     }
 
-    private RestaurantDto convertToDto(KakaoSearchResponse.Document document) {
-        return RestaurantDto.builder()
-                .id(document.getId())
-                .name(document.getPlaceName())
-                .category(document.getCategoryName())
-                .phone(document.getPhone())
-                .address(document.getAddressName())
-                .roadAddress(document.getRoadAddressName())
-                .x(document.getX())
-                .y(document.getY())
-                .placeUrl(document.getPlaceUrl())
-                .build();
+    /**
+     * 검색어 정규화 (카카오 요청 검색어이자 캐시 키)
+     * 앞뒤 공백 제거, 연속 공백을 하나로 축약, 소문자화
+     * 예) "  서울시  강남구 역삼동 맛집 " → "서울시 강남구 역삼동 맛집"
+     *
+     * 카카오에 보내는 검색어와 캐시 키가 항상 같아야 하므로, 검색 결과가 달라질 수 있는 변형
+     * (접미사 제거 등)은 하지 않습니다.
+     */
+    static String normalizeQuery(String query) {
+        return WHITESPACE.matcher(query.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,124 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.KakaoSearchPage;
+import com.example.wetbackend.model.KakaoSearchResponse;
+import com.example.wetbackend.model.RestaurantDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카카오 키워드 검색 응답 스트리밍 파서
+ *
+ * KakaoSearchResponse/Document 객체를 거치지 않고 JSON 토큰을 읽으며 곧바로 RestaurantDto를 만듭니다.
+ * 사용하지 않는 필드(category_group_code, category_group_name, distance, same_name 등)는
+ * 값을 만들지 않고 건너뜁니다.
+ */
+@Component
+public class KakaoResponseParser {
+
+    private final JsonFactory jsonFactory;
+
+    public KakaoResponseParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public KakaoSearchPage parse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    public KakaoSearchPage parse(byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    private KakaoSearchPage parse(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return KakaoSearchPage.EMPTY; // 빈 응답
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "카카오 응답은 JSON 객체여야 합니다: " + token);
+        }
+
+        KakaoSearchResponse.Meta meta = null;
+        List<RestaurantDto> restaurants = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "meta" -> meta = readMeta(parser);
+                case "documents" -> readDocuments(parser, restaurants);
+                default -> parser.skipChildren();
+            }
+        }
+        return new KakaoSearchPage(meta, restaurants);
+    }
+
+    private KakaoSearchResponse.Meta readMeta(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        KakaoSearchResponse.Meta meta = new KakaoSearchResponse.Meta();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "total_count" -> meta.setTotalCount(parser.getValueAsInt());
+                case "pageable_count" -> meta.setPageableCount(parser.getValueAsInt());
+                case "is_end" -> meta.setEnd(parser.getValueAsBoolean());
+                default -> parser.skipChildren();
+            }
+        }
+        return meta;
+    }
+
+    private void readDocuments(JsonParser parser, List<RestaurantDto> restaurants) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                restaurants.add(readDocument(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private RestaurantDto readDocument(JsonParser parser) throws IOException {
+        RestaurantDto.RestaurantDtoBuilder builder = RestaurantDto.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> builder.id(parser.getValueAsString());
+                case "place_name" -> builder.name(parser.getValueAsString());
+                case "category_name" -> builder.category(parser.getValueAsString());
+                case "phone" -> builder.phone(parser.getValueAsString());
+                case "address_name" -> builder.address(parser.getValueAsString());
+                case "road_address_name" -> builder.roadAddress(parser.getValueAsString());
+                case "x" -> builder.x(parser.getValueAsString());
+                case "y" -> builder.y(parser.getValueAsString());
+                case "place_url" -> builder.placeUrl(parser.getValueAsString());
+                default -> parser.skipChildren(); // 사용하지 않는 필드
+            }
+        }
+        return builder.build();
+    }
+}
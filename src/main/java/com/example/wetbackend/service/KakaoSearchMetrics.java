@@ -0,0 +1,105 @@
+package com.example.wetbackend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 카카오 검색 지표
+ *
+ * kakao.search (Timer): searchRestaurants 소요 시간. outcome(success/empty/stale/error), cache(hit/miss) 태그
+ *   stale: 카카오 장애/지연으로 DB 캐시 또는 마지막 정상 결과를 대신 반환
+ * kakao.search.failures (Counter): 검색 실패(빈 목록으로 대체된 오류). exception 태그
+ * kakao.search.page.failures (Counter): 다중 페이지 조회 중 마감 시간 초과/실패/실행기 포화로 빠진 페이지. reason 태그
+ *
+ * 정상 경로의 Timer는 미리 등록해 두어 호출마다 레지스트리를 조회하지 않습니다.
+ */
+@Component
+public class KakaoSearchMetrics {
+
+    static final String SEARCH_TIMER = "kakao.search";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer hitSuccess;
+    private final Timer hitEmpty;
+    private final Timer missSuccess;
+    private final Timer missEmpty;
+    private final Timer missStale;
+    private final Timer missError;
+    private final Counter pageTimeouts;
+    private final Counter pageErrors;
+    private final Counter pageRejections;
+
+    public KakaoSearchMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.hitSuccess = searchTimer("hit", "success");
+        this.hitEmpty = searchTimer("hit", "empty");
+        this.missSuccess = searchTimer("miss", "success");
+        this.missEmpty = searchTimer("miss", "empty");
+        this.missStale = searchTimer("miss", "stale");
+        this.missError = searchTimer("miss", "error");
+        this.pageTimeouts = pageFailureCounter("timeout");
+        this.pageErrors = pageFailureCounter("error");
+        this.pageRejections = pageFailureCounter("rejected");
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordHit(Timer.Sample sample, List<?> result) {
+        sample.stop(result.isEmpty() ? hitEmpty : hitSuccess);
+    }
+
+    public void recordMiss(Timer.Sample sample, List<?> result) {
+        sample.stop(result.isEmpty() ? missEmpty : missSuccess);
+    }
+
+    public void recordStale(Timer.Sample sample, Throwable error) {
+        sample.stop(missStale);
+        recordFailure(error);
+    }
+
+    public void recordError(Timer.Sample sample, Throwable error) {
+        sample.stop(missError);
+        recordFailure(error);
+    }
+
+    /**
+     * 검색 실패 횟수 (예외 종류별)
+     */
+    public void recordFailure(Throwable error) {
+        meterRegistry.counter(SEARCH_TIMER + ".failures", "exception", error.getClass().getSimpleName())
+                .increment();
+    }
+
+    public void recordPageTimeout() {
+        pageTimeouts.increment();
+    }
+
+    public void recordPageError() {
+        pageErrors.increment();
+    }
+
+    public void recordPageRejected(int pages) {
+        pageRejections.increment(pages);
+    }
+
+    private Timer searchTimer(String cache, String outcome) {
+        return Timer.builder(SEARCH_TIMER)
+                .description("카카오 키워드 검색 소요 시간")
+                .tag("cache", cache)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Counter pageFailureCounter(String reason) {
+        return Counter.builder(SEARCH_TIMER + ".page.failures")
+                .description("다중 페이지 조회에서 결과에 포함되지 못한 페이지 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
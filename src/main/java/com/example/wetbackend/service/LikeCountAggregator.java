@@ -0,0 +1,245 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.support.GeoUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 식당별 찜 수(like_count) 집계기
+ *
+ * 찜/찜취소마다 restaurants 행을 UPDATE 하면 인기 식당 행에 락 경합이 생기므로,
+ * 증감값은 메모리(식당별 LongAdder)에 모았다가 주기적으로, 그리고 종료 시에 일괄 UPDATE 합니다.
+ * 인기 식당 조회는 DB 값 + 아직 반영되지 않은 증감값을 합친 메모리 뷰에서 바로 응답합니다.
+ *
+ * 여러 인스턴스가 떠 있으면 다른 인스턴스의 증감은 reload 주기마다 DB에서 다시 읽어 반영됩니다.
+ *
+ * record()는 읽기 락을 잡고 기록하므로 서로 막지 않습니다. 새 뷰로 교체하거나 다 쓴 증감값 항목을 지울 때만
+ * 쓰기 락을 잡아, 그 사이에 기록된 증감값이 교체되는 뷰나 지워지는 항목에만 반영되어 사라지지 않게 합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // ddl-auto로 like_count 컬럼이 만들어진 뒤에 로드
+@RequiredArgsConstructor
+public class LikeCountAggregator {
+
+    private static final String LOAD_SQL = "SELECT kakao_id, name, category, phone, address, road_address, "
+            + "longitude, latitude, place_url, like_count FROM restaurants WHERE like_count > 0";
+
+    private static final String FLUSH_SQL =
+            "UPDATE restaurants SET like_count = GREATEST(like_count + ?, 0) WHERE kakao_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 아직 DB에 반영되지 않은 증감값 (kakao_id → delta) */
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /** 인기 식당 조회용 메모리 뷰 (kakao_id → 식당 정보 + 찜 수) */
+    private volatile ConcurrentHashMap<String, Counter> view = new ConcurrentHashMap<>();
+
+    /** 읽기: record(), 쓰기: 뷰 교체와 pending 항목 제거 */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Value("${like-count.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @PostConstruct
+    public void load() {
+        ConcurrentHashMap<String, Counter> loaded = new ConcurrentHashMap<>();
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            RestaurantDto restaurant = RestaurantDto.builder()
+                    .id(rs.getString("kakao_id"))
+                    .name(rs.getString("name"))
+                    .category(rs.getString("category"))
+                    .phone(rs.getString("phone"))
+                    .address(rs.getString("address"))
+                    .roadAddress(rs.getString("road_address"))
+                    .x(GeoUtils.formatCoordinate(rs.getObject("longitude", Double.class)))
+                    .y(GeoUtils.formatCoordinate(rs.getObject("latitude", Double.class)))
+                    .placeUrl(rs.getString("place_url"))
+                    .build();
+            Counter counter = new Counter(restaurant);
+            counter.count.add(rs.getLong("like_count"));
+            loaded.put(restaurant.getId(), counter);
+        });
+
+        lock.writeLock().lock();
+        try {
+            // 아직 flush 되지 않은 증감값(로드 중에 기록된 값 포함)을 교체 직전에 한 번에 반영
+            // 로드 중에는 flush가 돌지 않으므로(reload가 동기화됨) DB 값과 pending이 겹치지 않음
+            for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+                long delta = entry.getValue().sum();
+                if (delta == 0) {
+                    continue;
+                }
+                Counter counter = loaded.get(entry.getKey());
+                if (counter == null) {
+                    Counter previous = view.get(entry.getKey());
+                    if (previous == null) {
+                        continue;
+                    }
+                    counter = new Counter(previous.restaurant);
+                    loaded.put(entry.getKey(), counter);
+                }
+                counter.count.add(delta);
+            }
+            view = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("찜 수 집계 로드 완료: {}개 식당", loaded.size());
+    }
+
+    /**
+     * 찜 수 증감을 기록합니다. (트랜잭션 커밋 이후 호출)
+     *
+     * @param delta +1(찜) 또는 -1(찜 취소)
+     */
+    public void record(RestaurantDto restaurant, long delta) {
+        lock.readLock().lock();
+        try {
+            pending.computeIfAbsent(restaurant.getId(), k -> new LongAdder()).add(delta);
+            Counter counter = view.computeIfAbsent(restaurant.getId(), k -> new Counter(restaurant));
+            counter.count.add(delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모인 증감값을 restaurants.like_count에 일괄 반영합니다.
+     * sum()만큼 빼는 방식이라 flush 도중 들어온 증감값은 사라지지 않고 다음 주기로 넘어갑니다.
+     * 여러 배치로 나눠 보내더라도 한 트랜잭션으로 커밋하므로, 실패하면 전부 롤백되어 전부 다시 시도해도 중복 반영되지 않습니다.
+     * 이전 주기에 모두 반영되어 0이 된 항목은 지워서 pending이 찜한 적 있는 식당 수만큼 커지지 않게 합니다.
+     */
+    @Scheduled(fixedDelayString = "${like-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        removeFlushedEntries();
+
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                entry.getValue().add(-delta);
+                batch.add(new Object[] { delta, entry.getKey() });
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(FLUSH_SQL, batch, flushBatchSize, (ps, row) -> {
+                        ps.setLong(1, (Long) row[0]);
+                        ps.setString(2, (String) row[1]);
+                    }));
+            log.debug("찜 수 flush: {}개 식당", batch.size());
+        } catch (DataAccessException | TransactionException e) {
+            // 트랜잭션 전체가 롤백되었으므로 모든 증감값을 되돌려서 다음 주기에 다시 시도
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((String) row[1], k -> new LongAdder()).add((Long) row[0]);
+            }
+            log.warn("찜 수 flush 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 증감값이 0인 pending 항목 제거
+     * record()가 항목을 꺼낸 뒤 지워진 항목에 더하는 일이 없도록 쓰기 락 안에서 지웁니다.
+     */
+    private void removeFlushedEntries() {
+        lock.writeLock().lock();
+        try {
+            pending.entrySet().removeIf(entry -> entry.getValue().sum() == 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감값을 가진 식당 수 (0이 된 항목은 다음 flush에서 제거)
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 다른 인스턴스에서 반영한 찜 수를 가져오기 위해 주기적으로 DB 값을 다시 읽습니다.
+     */
+    @Scheduled(initialDelayString = "${like-count.reload-interval-ms:300000}",
+            fixedDelayString = "${like-count.reload-interval-ms:300000}")
+    public synchronized void reload() {
+        flush();
+        load();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 찜 수가 많은 식당 목록 (메모리 뷰, 크기 limit의 최소 힙으로 상위 N개만 유지)
+     */
+    public List<RestaurantDto> getPopularRestaurants(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<RestaurantDto> top = new PriorityQueue<>(limit + 1,
+                Comparator.comparingLong(RestaurantDto::getLikeCount));
+        for (Counter counter : view.values()) {
+            long count = counter.count.sum();
+            if (count <= 0) {
+                continue;
+            }
+            if (top.size() < limit || count > top.peek().getLikeCount()) {
+                top.offer(counter.restaurant.toBuilder().likeCount(count).liked(null).build());
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+
+        List<RestaurantDto> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingLong(RestaurantDto::getLikeCount).reversed());
+        return result;
+    }
+
+    /**
+     * 식당의 현재 찜 수 (메모리 뷰 기준, 없으면 0)
+     */
+    public long getLikeCount(String kakaoId) {
+        Counter counter = view.get(kakaoId);
+        return counter != null ? Math.max(0, counter.count.sum()) : 0;
+    }
+
+    private static final class Counter {
+        private final RestaurantDto restaurant;
+        private final LongAdder count = new LongAdder();
+
+        private Counter(RestaurantDto restaurant) {
+            this.restaurant = restaurant;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.repository.UserRepository;
+import com.example.wetbackend.support.TtlLruCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색/추천 결과의 찜 여부(liked) 표시
+ *
+ * 사용자별로 찜한 식당의 kakao_id 집합을 한 번만 읽어 likedSetCache(LRU)에 보관하고,
+ * 이후 요청은 DB 조회 없이 결과 개수만큼의 집합 조회로 liked 값을 채웁니다.
+ * 이 인스턴스의 찜하기/찜취소는 커밋 후 캐시된 집합에 바로 반영합니다.
+ *
+ * 찜 목록 ETag에 쓰는 사용자별 버전도 만듭니다. 버전은 DB 상태에서 계산하므로 어느 인스턴스에서 바뀌었든 바로 달라집니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LikedStateService {
+
+    private static final String LOAD_SQL = "SELECT r.kakao_id FROM restaurant_likes l "
+            + "JOIN restaurants r ON r.id = l.restaurant_id WHERE l.user_id = ?";
+
+    // 찜 수, 마지막 찜 id, 찜한 식당 정보의 마지막 변경 시각 (idx_likes_user_created 범위 + 식당 PK 조회)
+    private static final String VERSION_SQL = "SELECT COUNT(*), MAX(l.id), MAX(r.updated_at) FROM restaurant_likes l "
+            + "JOIN restaurants r ON r.id = l.restaurant_id WHERE l.user_id = ?";
+
+    private final TtlLruCache<Long, Set<String>> likedSetCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+
+    /**
+     * DB에서 집합을 읽고 있는 사용자별 로드 표식 (로드 중에만 존재)
+     * 그 사용자의 찜 상태가 바뀌면 표식을 지워, 이전 상태일 수 있는 로드 결과를 캐시하지 않게 합니다.
+     * 다른 사용자의 변경은 영향을 주지 않습니다.
+     */
+    private final ConcurrentHashMap<Long, Object> loading = new ConcurrentHashMap<>();
+
+    /**
+     * 각 식당에 liked 값을 채운 복사본 목록을 반환합니다.
+     * 검색/추천 결과는 캐시에 공유된 객체이므로 원본을 수정하지 않습니다.
+     */
+    public List<RestaurantDto> markLiked(Long userId, List<RestaurantDto> restaurants) {
+        if (restaurants.isEmpty()) {
+            return restaurants;
+        }
+        Set<String> liked = likedKakaoIds(userId);
+        List<RestaurantDto> result = new ArrayList<>(restaurants.size());
+        for (RestaurantDto restaurant : restaurants) {
+            result.add(restaurant.toBuilder().liked(liked.contains(restaurant.getId())).build());
+        }
+        return result;
+    }
+
+    /**
+     * 사용자가 찜한 식당의 kakao_id 집합 (캐시에 없으면 DB에서 로드)
+     */
+    public Set<String> likedKakaoIds(Long userId) {
+        Set<String> cached = likedSetCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Object token = new Object();
+        loading.put(userId, token);
+        Set<String> loaded;
+        try {
+            loaded = Set.copyOf(jdbcTemplate.queryForList(LOAD_SQL, String.class, userId));
+        } catch (RuntimeException e) {
+            loading.remove(userId, token);
+            throw e;
+        }
+        synchronized (this) {
+            // 로드하는 동안 이 사용자의 찜 상태가 바뀌었으면(표식이 지워졌으면) 이전 값일 수 있으므로 캐시하지 않음
+            if (loading.remove(userId, token)) {
+                likedSetCache.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 사용자의 찜 목록 버전 (찜 목록 ETag)
+     * 찜 추가(마지막 찜 id), 찜 취소(찜 수), 찜한 식당 정보 변경(식당 updated_at) 중 하나라도 있으면 달라집니다.
+     *
+     * @throws UserNotFoundException 찜이 하나도 없고 사용자도 없는 경우
+     */
+    public String likeVersion(Long userId) {
+        return jdbcTemplate.queryForObject(VERSION_SQL, (rs, rowNum) -> {
+            long count = rs.getLong(1);
+            if (count == 0 && userRepository.findById(userId).isEmpty()) {
+                throw new UserNotFoundException(userId);
+            }
+            Timestamp updatedAt = rs.getTimestamp(3);
+            long updatedMicros = updatedAt == null ? 0 : updatedAt.getTime() / 1000 * 1_000_000 + updatedAt.getNanos() / 1000;
+            return count + "." + rs.getLong(2) + "." + Long.toHexString(updatedMicros);
+        }, userId);
+    }
+
+    /**
+     * 찜하기/찜취소 반영 (트랜잭션 커밋 이후 호출)
+     * 캐시에 없는 사용자는 다음 조회 때 DB에서 읽으므로 아무것도 하지 않습니다.
+     */
+    public synchronized void update(Long userId, Collection<String> liked, Collection<String> unliked) {
+        loading.remove(userId);
+        Set<String> current = likedSetCache.get(userId);
+        if (current == null) {
+            return;
+        }
+        Set<String> next = new HashSet<>(current);
+        next.addAll(liked);
+        next.removeAll(unliked);
+        likedSetCache.put(userId, Set.copyOf(next));
+    }
+
+    /**
+     * 사용자 삭제 시 캐시에서 제거
+     */
+    public synchronized void evict(Long userId) {
+        loading.remove(userId);
+        likedSetCache.invalidate(userId);
+    }
+}
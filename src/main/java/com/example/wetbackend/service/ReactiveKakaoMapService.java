@@ -0,0 +1,111 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.KakaoSearchPage;
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.support.TtlLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 카카오 지도 API 논블로킹 호출 서비스
+ *
+ * KakaoMapService와 같은 동작(FD6 음식점 필터, 오류 시 빈 목록)을 WebClient(Reactor Netty)로 수행합니다.
+ * 카카오는 첫 페이지만 조회하므로 결과는 firstPageSearchCache에 따로 저장하고, 여러 페이지를 합친
+ * searchResultCache는 읽기만 합니다. (이미 전체 결과가 있으면 그 결과로 응답) 응답을 기다리는 동안 스레드를 점유하지 않으므로
+ * 수많은 카카오 요청이 동시에 진행되어도 소수의 이벤트 루프 스레드만 사용합니다.
+ * 구독을 취소하면(클라이언트 연결 종료 등) 진행 중인 카카오 요청도 함께 취소됩니다.
+ */
+@Slf4j
+@Service
+public class ReactiveKakaoMapService {
+
+    private final WebClient webClient;
+    private final KakaoResponseParser kakaoResponseParser;
+    private final TtlLruCache<String, List<RestaurantDto>> searchResultCache;
+    private final TtlLruCache<String, List<RestaurantDto>> firstPageSearchCache;
+    private final KakaoSearchMetrics kakaoSearchMetrics;
+
+    @Value("${kakao.api.key}")
+    private String kakaoApiKey;
+
+    @Value("${kakao.api.url}")
+    private String kakaoApiUrl;
+
+    @Value("${kakao.search.page-size:15}")
+    private int pageSize;
+
+    @Value("${http.client.read-timeout-ms:3000}")
+    private long timeoutMs;
+
+    public ReactiveKakaoMapService(WebClient.Builder webClientBuilder,
+            KakaoResponseParser kakaoResponseParser,
+            TtlLruCache<String, List<RestaurantDto>> searchResultCache,
+            TtlLruCache<String, List<RestaurantDto>> firstPageSearchCache,
+            KakaoSearchMetrics kakaoSearchMetrics) {
+        this.webClient = webClientBuilder.build();
+        this.kakaoResponseParser = kakaoResponseParser;
+        this.searchResultCache = searchResultCache;
+        this.firstPageSearchCache = firstPageSearchCache;
+        this.kakaoSearchMetrics = kakaoSearchMetrics;
+    }
+
+    public Mono<List<RestaurantDto>> searchRestaurants(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return Mono.just(new ArrayList<>());
+        }
+
+        String cacheKey = KakaoMapService.normalizeQuery(query);
+        List<RestaurantDto> cached = searchResultCache.get(cacheKey);
+        if (cached == null) {
+            cached = firstPageSearchCache.get(cacheKey);
+        }
+        if (cached != null) {
+            return Mono.just(new ArrayList<>(cached));
+        }
+
+        // URL 생성 (검색어 + 카테고리 그룹 코드 FD6: 음식점)
+        URI uri = UriComponentsBuilder.fromHttpUrl(kakaoApiUrl)
+                .queryParam("query", cacheKey) // 캐시 키와 같은 정규화된 검색어
+                .queryParam("category_group_code", "FD6") // 음식점 카테고리 필터링
+                .queryParam("size", pageSize)
+                .build()
+                .encode()
+                .toUri();
+
+        log.debug("Kakao API Request (reactive): {}", uri);
+
+        return webClient.get()
+                .uri(uri)
+                .header(HttpHeaders.AUTHORIZATION, "KakaoAK " + kakaoApiKey)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .<KakaoSearchPage>handle((body, sink) -> {
+                    try {
+                        sink.next(kakaoResponseParser.parse(body));
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                })
+                .defaultIfEmpty(KakaoSearchPage.EMPTY)
+                .map(KakaoSearchPage::getRestaurants)
+                .doOnNext(result -> firstPageSearchCache.put(cacheKey, List.copyOf(result)))
+                .<List<RestaurantDto>>map(ArrayList::new)
+                .timeout(Duration.ofMillis(timeoutMs))
+                .onErrorResume(e -> {
+                    log.error("Kakao API 호출 중 오류 발생 (reactive): {}", e.getMessage(), e);
+                    kakaoSearchMetrics.recordFailure(e);
+                    return Mono.just(new ArrayList<>());
+                });
+    }
+}
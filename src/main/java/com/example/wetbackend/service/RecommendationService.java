@@ -0,0 +1,205 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.support.GeoUtils;
+import com.example.wetbackend.support.TtlLruCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 맛집 추천 서비스
+ *
+ * 주소 검색 결과(후보)를 아래 점수의 가중합으로 평가해 상위 N개를 고릅니다.
+ * - 인기: 찜 수 (LikeCountAggregator 메모리 뷰)
+ * - 거리: 기준 좌표와의 거리 (가까울수록 높음, 지수 감쇠)
+ * - 관련도: 카카오 검색 결과 순위
+ *
+ * 후보 전체를 정렬하지 않고 한 번 순회하며 크기 N의 최소 힙으로 상위 N개만 유지합니다.
+ * 같은 지역(주소 + 좌표) 추천 결과는 짧은 시간 동안 캐시해 다시 계산하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private static final double LIKE_SATURATION = 5.0; // 찜 수 점수가 0.5가 되는 찜 수
+
+    private final KakaoMapService kakaoMapService;
+    private final LikeCountAggregator likeCountAggregator;
+    private final TtlLruCache<String, List<RestaurantDto>> recommendationCache;
+
+    @Value("${recommendation.weight.like:0.5}")
+    private double likeWeight;
+
+    @Value("${recommendation.weight.distance:0.3}")
+    private double distanceWeight;
+
+    @Value("${recommendation.weight.relevance:0.2}")
+    private double relevanceWeight;
+
+    @Value("${recommendation.distance-decay-meters:1000}")
+    private double distanceDecayMeters;
+
+    /**
+     * 주소 기반 맛집 추천
+     *
+     * @param address 검색 주소
+     * @param x       기준 경도 (null이면 후보들의 중심점 사용)
+     * @param y       기준 위도 (null이면 후보들의 중심점 사용)
+     * @param limit   추천 개수
+     * @param diverse true면 카테고리(한식/일식 등)가 겹치지 않는 식당을 우선 추천
+     */
+    public List<RestaurantDto> recommend(String address, Double x, Double y, int limit, boolean diverse) {
+        String cacheKey = cacheKey(address, x, y, limit, diverse);
+        List<RestaurantDto> cached = recommendationCache.get(cacheKey);
+        if (cached != null) {
+            return new ArrayList<>(cached);
+        }
+
+        List<RestaurantDto> candidates = kakaoMapService.searchRestaurants(address + " 맛집");
+        if (candidates.isEmpty()) {
+            return candidates; // 카카오 오류일 수 있으므로 캐시하지 않음
+        }
+
+        List<RestaurantDto> result = rank(candidates, x, y, limit, diverse);
+        recommendationCache.put(cacheKey, List.copyOf(result));
+        return result;
+    }
+
+    /**
+     * 후보를 점수화하여 상위 limit개를 점수 높은 순으로 반환합니다.
+     */
+    public List<RestaurantDto> rank(List<RestaurantDto> candidates, Double x, Double y, int limit, boolean diverse) {
+        double[] origin = (x != null && y != null) ? new double[] { y, x } : centroid(candidates);
+
+        Comparator<Scored> byScore = Comparator.comparingDouble(Scored::score);
+        PriorityQueue<Scored> top = new PriorityQueue<>(limit + 1, byScore);
+        Map<String, Scored> bestByCategory = diverse ? new HashMap<>() : null;
+
+        int n = candidates.size();
+        for (int i = 0; i < n; i++) {
+            RestaurantDto restaurant = candidates.get(i);
+            long likes = likeCountAggregator.getLikeCount(restaurant.getId());
+            Scored scored = new Scored(restaurant, likes, score(restaurant, likes, i, n, origin));
+
+            offer(top, scored, limit);
+            if (diverse) {
+                bestByCategory.merge(mainCategory(restaurant), scored,
+                        (a, b) -> a.score() >= b.score() ? a : b);
+            }
+        }
+
+        List<Scored> picked = new ArrayList<>(limit);
+        if (diverse) {
+            // 카테고리별 1위 중 상위 limit개, 부족하면 전체 상위에서 채움
+            PriorityQueue<Scored> categoryTop = new PriorityQueue<>(limit + 1, byScore);
+            for (Scored scored : bestByCategory.values()) {
+                offer(categoryTop, scored, limit);
+            }
+            picked.addAll(categoryTop);
+            Set<String> pickedIds = new HashSet<>();
+            for (Scored scored : picked) {
+                pickedIds.add(scored.restaurant().getId());
+            }
+            List<Scored> rest = new ArrayList<>(top);
+            rest.sort(byScore.reversed());
+            for (Scored scored : rest) {
+                if (picked.size() >= limit) {
+                    break;
+                }
+                if (pickedIds.add(scored.restaurant().getId())) {
+                    picked.add(scored);
+                }
+            }
+        } else {
+            picked.addAll(top);
+        }
+        picked.sort(byScore.reversed());
+
+        List<RestaurantDto> result = new ArrayList<>(picked.size());
+        for (Scored scored : picked) {
+            result.add(scored.restaurant().toBuilder().likeCount(scored.likes()).build());
+        }
+        return result;
+    }
+
+    private double score(RestaurantDto restaurant, long likes, int rank, int total, double[] origin) {
+        double likeScore = likes / (likes + LIKE_SATURATION);
+        double relevanceScore = 1.0 - (double) rank / total;
+
+        double distanceScore = 0.0;
+        Double lat = GeoUtils.parseCoordinate(restaurant.getY());
+        Double lng = GeoUtils.parseCoordinate(restaurant.getX());
+        if (origin != null && lat != null && lng != null) {
+            double meters = GeoUtils.distanceMeters(origin[0], origin[1], lat, lng);
+            distanceScore = Math.exp(-meters / distanceDecayMeters);
+        }
+
+        return likeWeight * likeScore + distanceWeight * distanceScore + relevanceWeight * relevanceScore;
+    }
+
+    private static void offer(PriorityQueue<Scored> heap, Scored scored, int limit) {
+        if (heap.size() < limit) {
+            heap.offer(scored);
+        } else if (limit > 0 && scored.score() > heap.peek().score()) {
+            heap.poll();
+            heap.offer(scored);
+        }
+    }
+
+    /**
+     * 후보 좌표의 중심점 {위도, 경도} (좌표가 하나도 없으면 null)
+     */
+    private static double[] centroid(List<RestaurantDto> candidates) {
+        double latSum = 0;
+        double lngSum = 0;
+        int count = 0;
+        for (RestaurantDto restaurant : candidates) {
+            Double lat = GeoUtils.parseCoordinate(restaurant.getY());
+            Double lng = GeoUtils.parseCoordinate(restaurant.getX());
+            if (lat != null && lng != null) {
+                latSum += lat;
+                lngSum += lng;
+                count++;
+            }
+        }
+        return count == 0 ? null : new double[] { latSum / count, lngSum / count };
+    }
+
+    /**
+     * 대분류 카테고리: "음식점 > 한식 > 고기요리" → "한식"
+     */
+    static String mainCategory(RestaurantDto restaurant) {
+        String category = restaurant.getCategory();
+        if (category == null) {
+            return "";
+        }
+        String[] parts = category.split(">");
+        return (parts.length > 1 ? parts[1] : parts[0]).trim();
+    }
+
+    /**
+     * 지역 캐시 키: 정규화된 주소 + 약 100m 단위로 반올림한 좌표 + 옵션
+     */
+    private static String cacheKey(String address, Double x, Double y, int limit, boolean diverse) {
+        String point = (x != null && y != null)
+                ? String.format(Locale.ROOT, "%.3f,%.3f", x, y)
+                : "-";
+        return KakaoMapService.normalizeQuery(address) + "|" + point + "|" + limit + "|" + diverse;
+    }
+
+    private record Scored(RestaurantDto restaurant, long likes, double score) {
+    }
+}
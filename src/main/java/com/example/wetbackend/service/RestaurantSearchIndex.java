@@ -0,0 +1,409 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+/**
+ * restaurants 테이블 대상 인메모리 n-gram 검색 인덱스
+ *
+ * 이름(name), 주소(address, road_address), 카테고리(category)를 토큰 단위 음절 bigram으로 색인합니다.
+ * (한 글자 토큰은 unigram) 이름은 초성 bigram도 함께 색인해 "ㄱㅂㅊ" 같은 초성 검색을 지원합니다.
+ *
+ * 검색 점수는 일치한 n-gram마다 필드 가중치(이름 3, 주소 2, 카테고리 1)를 더한 값이며,
+ * 검색어 n-gram 중 min-match-ratio 이상이 일치한 식당만 결과에 포함합니다.
+ * 시작 시 RestaurantSearchIndexLoader가 전체를 색인하고, 이후 저장되는 식당은 add()로 반영합니다.
+ *
+ * 같은 식당은 항상 같은 docId를 쓰고, 내용이 바뀌면 그 docId를 이전 n-gram posting에서 빼고
+ * 새 n-gram posting에 넣습니다. (교체된 문서가 쌓이지 않으므로 별도 정리가 필요 없음)
+ */
+@Component
+public class RestaurantSearchIndex {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int ADDRESS_WEIGHT = 2;
+    private static final int CATEGORY_WEIGHT = 1;
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+
+    /** 보관해 두는 검색용 작업 공간 수 (하나가 문서 수 × int 3개, 동시 검색이 이보다 많으면 넘는 만큼은 쓰고 버림) */
+    private static final int MAX_POOLED_SCRATCH = Runtime.getRuntime().availableProcessors();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<RestaurantDto> documents = new ArrayList<>(); // docId → 식당
+    private final Map<String, Integer> docIdByKakaoId = new HashMap<>();
+    private final Map<String, IntList> namePostings = new HashMap<>();
+    private final Map<String, IntList> addressPostings = new HashMap<>();
+    private final Map<String, IntList> categoryPostings = new HashMap<>();
+    private final Map<String, IntList> choseongPostings = new HashMap<>();
+
+    private final double minMatchRatio;
+
+    /** 검색마다 재사용하는 작업 공간 (가상 스레드에서도 재사용되도록 ThreadLocal 대신 풀 사용) */
+    private final ArrayBlockingQueue<Scratch> scratchPool = new ArrayBlockingQueue<>(MAX_POOLED_SCRATCH);
+
+    private volatile boolean ready;
+
+    public RestaurantSearchIndex(@Value("${search.local-index.min-match-ratio:0.8}") double minMatchRatio) {
+        this.minMatchRatio = minMatchRatio;
+    }
+
+    /**
+     * 전체 색인이 끝났음을 표시합니다. 그 전에는 search()가 빈 결과를 반환하므로 호출자는 카카오로 대체합니다.
+     */
+    public void markReady() {
+        ready = true;
+    }
+
+    /**
+     * 식당을 색인합니다. 같은 kakao_id가 이미 있으면 내용이 바뀐 경우에만 같은 docId로 갱신합니다.
+     * 찜할 때마다 호출되므로 바뀐 것이 없으면 읽기 잠금만 잡고 끝냅니다.
+     */
+    public void add(RestaurantDto restaurant) {
+        if (restaurant == null || restaurant.getId() == null) {
+            return;
+        }
+        RestaurantDto doc = restaurant.getLikeCount() == null && restaurant.getLiked() == null ? restaurant
+                : restaurant.toBuilder().likeCount(null).liked(null).build();
+
+        lock.readLock().lock();
+        try {
+            if (isIndexed(doc)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (isIndexed(doc)) {
+                return;
+            }
+            Integer previous = docIdByKakaoId.get(doc.getId());
+            int docId;
+            if (previous != null) {
+                docId = previous;
+                forEachField(documents.get(docId), (postings, grams) -> {
+                    for (String gram : grams) {
+                        IntList list = postings.get(gram);
+                        if (list != null && list.remove(docId) && list.size == 0) {
+                            postings.remove(gram);
+                        }
+                    }
+                });
+                documents.set(docId, doc);
+            } else {
+                docId = documents.size();
+                documents.add(doc);
+                docIdByKakaoId.put(doc.getId(), docId);
+            }
+            forEachField(doc, (postings, grams) -> {
+                for (String gram : grams) {
+                    postings.computeIfAbsent(gram, k -> new IntList()).insert(docId);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 식당을 점수 높은 순으로 반환합니다.
+     *
+     * 점수/일치 수는 재사용하는 작업 공간(Scratch)에 모으고, posting에 나온 식당만 순위를 매기고 지웁니다.
+     * 드문 n-gram 검색은 읽은 posting 길이만큼만 일하고, 검색마다 문서 수만큼 배열을 할당하지 않습니다.
+     */
+    public List<RestaurantDto> search(String query, int limit) {
+        if (!ready || query == null || limit <= 0) {
+            return List.of();
+        }
+
+        boolean choseongQuery = isChoseongOnly(query);
+        Set<String> queryGrams = grams(query);
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+        int required = Math.max(1, (int) Math.ceil(queryGrams.size() * minMatchRatio));
+
+        Scratch scratch = scratchPool.poll();
+        if (scratch == null) {
+            scratch = new Scratch();
+        }
+        lock.readLock().lock();
+        try {
+            scratch.prepare(documents.size());
+            int g = 0;
+            for (String gram : queryGrams) {
+                g++;
+                if (choseongQuery) {
+                    scratch.collect(choseongPostings.get(gram), NAME_WEIGHT, g);
+                } else {
+                    scratch.collect(namePostings.get(gram), NAME_WEIGHT, g);
+                    scratch.collect(addressPostings.get(gram), ADDRESS_WEIGHT, g);
+                    scratch.collect(categoryPostings.get(gram), CATEGORY_WEIGHT, g);
+                }
+            }
+
+            // 점수, 일치 수 순 (같으면 먼저 색인된 식당 우선). 힙의 최솟값보다 낮은 문서는 객체를 만들지 않음
+            Comparator<Hit> byRank = Comparator.comparingInt(Hit::score)
+                    .thenComparingInt(Hit::matched)
+                    .thenComparing(Comparator.comparingInt(Hit::docId).reversed());
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, byRank);
+            // 대부분의 식당이 나온 검색이면 흩어진 touched 대신 docId 순서대로 훑음 (안 나온 식당은 일치 수 0이라 걸러짐)
+            boolean scan = scratch.isDense();
+            int candidates = scan ? documents.size() : scratch.count;
+            int[] touched = scratch.touched;
+            int[] scores = scratch.scores;
+            int[] matchedCounts = scratch.matched;
+            for (int i = 0; i < candidates; i++) {
+                int docId = scan ? i : touched[i];
+                int matched = matchedCounts[docId];
+                if (matched < required) {
+                    continue;
+                }
+                int score = scores[docId];
+                if (top.size() == limit) {
+                    Hit lowest = top.peek();
+                    if (score < lowest.score()
+                            || score == lowest.score() && (matched < lowest.matched()
+                                    || matched == lowest.matched() && docId > lowest.docId())) {
+                        continue;
+                    }
+                    top.poll();
+                }
+                top.offer(new Hit(docId, score, matched));
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(byRank.reversed());
+            List<RestaurantDto> result = new ArrayList<>(ranked.size());
+            for (Hit hit : ranked) {
+                result.add(documents.get(hit.docId()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+            scratch.clear();
+            scratchPool.offer(scratch);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdByKakaoId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private boolean isIndexed(RestaurantDto doc) {
+        Integer docId = docIdByKakaoId.get(doc.getId());
+        return docId != null && doc.equals(documents.get(docId));
+    }
+
+    private void forEachField(RestaurantDto doc, BiConsumer<Map<String, IntList>, Set<String>> action) {
+        action.accept(namePostings, grams(doc.getName()));
+        Set<String> addressGrams = grams(doc.getAddress());
+        addressGrams.addAll(grams(doc.getRoadAddress()));
+        action.accept(addressPostings, addressGrams);
+        action.accept(categoryPostings, grams(doc.getCategory()));
+        action.accept(choseongPostings, grams(choseong(doc.getName())));
+    }
+
+    /**
+     * 텍스트를 글자/숫자 토큰으로 나누고 토큰별 bigram을 만듭니다. (한 글자 토큰은 그대로)
+     * 예) "서울시 강남구" → [서울, 울시, 강남, 남구]
+     */
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null) {
+            return grams;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int tokenStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && tokenStart < 0) {
+                tokenStart = i;
+            } else if (!letter && tokenStart >= 0) {
+                String token = normalized.substring(tokenStart, i);
+                if (token.length() == 1) {
+                    grams.add(token);
+                } else {
+                    for (int j = 0; j + 2 <= token.length(); j++) {
+                        grams.add(token.substring(j, j + 2));
+                    }
+                }
+                tokenStart = -1;
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 한글 음절을 초성으로 변환합니다. 예) "김밥천국" → "ㄱㅂㅊㄱ" (한글 외 글자는 그대로)
+     */
+    static String choseong(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSEONG[(c - HANGUL_BASE) / 588]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 검색어가 공백을 제외하고 한글 자음(호환 자모)으로만 이루어졌는지
+     */
+    private static boolean isChoseongOnly(String query) {
+        boolean any = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (Arrays.binarySearch(CHOSEONG, c) < 0) {
+                return false;
+            }
+            any = true;
+        }
+        return any;
+    }
+
+    private record Hit(int docId, int score, int matched) {
+    }
+
+    /**
+     * 한 번의 검색에서 점수를 모으는 작업 공간
+     * 점수/일치 수 배열은 docId로 바로 찾고, 처음 나온 식당만 touched에 적어 두었다가 그 식당만 순위를 매깁니다.
+     * 끝나면 touched에 있는 칸만 0으로 되돌리므로 정리 비용도 읽은 posting 길이에 비례합니다.
+     */
+    private static final class Scratch {
+        private int[] scores = new int[0];
+        private int[] matched = new int[0];
+        private int[] lastGram = new int[0]; // 마지막으로 일치한 검색어 n-gram 번호 (필드 간 중복 집계 방지)
+        private int[] touched = new int[64];
+        private int count;
+
+        void prepare(int docCount) {
+            if (scores.length < docCount) {
+                int capacity = Math.max(docCount, scores.length + (scores.length >> 1));
+                scores = new int[capacity];
+                matched = new int[capacity];
+                lastGram = new int[capacity];
+            }
+        }
+
+        void collect(IntList postings, int weight, int gram) {
+            if (postings == null) {
+                return;
+            }
+            int[] docIds = postings.values;
+            int size = postings.size;
+            int[] scores = this.scores;
+            int[] matched = this.matched;
+            int[] lastGram = this.lastGram;
+            int[] touched = this.touched;
+            int count = this.count;
+            if (touched.length < count + size) {
+                touched = Arrays.copyOf(touched, Math.max(count + size, touched.length * 2));
+                this.touched = touched;
+            }
+            for (int i = 0; i < size; i++) {
+                int docId = docIds[i];
+                if (scores[docId] == 0) {
+                    touched[count++] = docId;
+                }
+                scores[docId] += weight;
+                if (lastGram[docId] != gram) {
+                    lastGram[docId] = gram;
+                    matched[docId]++;
+                }
+            }
+            this.count = count;
+        }
+
+        /** 나온 식당이 많아 흩어진 칸을 하나씩 다루는 것보다 배열을 순서대로 훑는 편이 빠른지 */
+        boolean isDense() {
+            return count > scores.length >> 3;
+        }
+
+        void clear() {
+            if (isDense()) {
+                Arrays.fill(scores, 0);
+                Arrays.fill(matched, 0);
+                Arrays.fill(lastGram, 0);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    int docId = touched[i];
+                    scores[docId] = 0;
+                    matched[docId] = 0;
+                    lastGram[docId] = 0;
+                }
+            }
+            count = 0;
+        }
+    }
+
+    /**
+     * docId 목록 (박싱 없는 가변 int 배열, 오름차순)
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void insert(int value) {
+            int index = size == 0 || values[size - 1] < value ? size : Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) {
+                index = -index - 1;
+            } else if (index < size) {
+                return; // 이미 있음
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+        }
+
+        boolean remove(int value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.support.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 후 restaurants 전체를 RestaurantSearchIndex에 색인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSearchIndexLoader {
+
+    private static final String LOAD_SQL = "SELECT kakao_id, name, category, phone, address, road_address, "
+            + "longitude, latitude, place_url FROM restaurants";
+
+    private final RestaurantSearchIndex restaurantSearchIndex;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            restaurantSearchIndex.add(RestaurantDto.builder()
+                    .id(rs.getString("kakao_id"))
+                    .name(rs.getString("name"))
+                    .category(rs.getString("category"))
+                    .phone(rs.getString("phone"))
+                    .address(rs.getString("address"))
+                    .roadAddress(rs.getString("road_address"))
+                    .x(GeoUtils.formatCoordinate(rs.getObject("longitude", Double.class)))
+                    .y(GeoUtils.formatCoordinate(rs.getObject("latitude", Double.class)))
+                    .placeUrl(rs.getString("place_url"))
+                    .build());
+        });
+        restaurantSearchIndex.markReady();
+        log.info("식당 검색 인덱스 생성 완료: {}개 식당, {}ms",
+                restaurantSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+}
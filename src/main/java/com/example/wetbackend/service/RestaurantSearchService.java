@@ -0,0 +1,48 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주소 기반 식당 검색 서비스
+ * 우리 DB에 저장된 식당(로컬 인덱스)에서 먼저 찾고, 결과가 부족하면 카카오 검색으로 대체합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RestaurantSearchService {
+
+    private final RestaurantSearchIndex restaurantSearchIndex;
+    private final KakaoMapService kakaoMapService;
+
+    @Value("${search.local-index.enabled:true}")
+    private boolean localIndexEnabled;
+
+    /** 로컬 결과가 이 개수 이상이면 카카오를 호출하지 않음 */
+    @Value("${search.local-index.min-results:15}")
+    private int minLocalResults;
+
+    /**
+     * 주소로 주변 식당 검색
+     *
+     * @param address 사용자가 선택한 주소 (예: "서울시 강남구 역삼동")
+     */
+    public List<RestaurantDto> search(String address) {
+        if (localIndexEnabled) {
+            List<RestaurantDto> local = restaurantSearchIndex.search(address, minLocalResults);
+            if (local.size() >= minLocalResults) {
+                log.debug("로컬 인덱스 검색 적중: {} ({}건)", address, local.size());
+                return new ArrayList<>(local);
+            }
+        }
+
+        // 검색어 생성: 주소 + " 맛집"
+        return kakaoMapService.searchRestaurants(address + " 맛집");
+    }
+}
@@ -1,102 +1,328 @@
 package com.example.wetbackend.service;
 
+import com.example.wetbackend.model.LikeBatchRequest;
+import com.example.wetbackend.model.LikeBatchResult;
+import com.example.wetbackend.model.LikeCursor;
+import com.example.wetbackend.model.LikedRestaurantPage;
+import com.example.wetbackend.model.LikedRestaurantRow;
 import com.example.wetbackend.model.RestaurantDto;
-import com.example.wetbackend.model.User;
 import com.example.wetbackend.model.entity.Restaurant;
-import com.example.wetbackend.model.entity.RestaurantLike;
 import com.example.wetbackend.repository.RestaurantLikeRepository;
 import com.example.wetbackend.repository.RestaurantRepository;
 import com.example.wetbackend.repository.UserRepository;
+import com.example.wetbackend.support.GeoUtils;
+import com.example.wetbackend.support.RestaurantMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RestaurantService {
 
+    private static final String BATCH_UPSERT_RESTAURANT_SQL = "INSERT INTO restaurants "
+            + "(id, kakao_id, name, category, phone, address, road_address, longitude, latitude, place_url, created_at, updated_at) "
+            + "VALUES (NEXT VALUE FOR restaurants_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)) "
+            + "ON DUPLICATE KEY UPDATE name = VALUES(name), category = VALUES(category), phone = VALUES(phone), "
+            + "address = VALUES(address), road_address = VALUES(road_address), "
+            + "longitude = VALUES(longitude), latitude = VALUES(latitude), place_url = VALUES(place_url), "
+            + "updated_at = CURRENT_TIMESTAMP(6)";
+
+    // 중복이면 0을 반환하도록 INSERT IGNORE 사용 (RestaurantLikeRepository.insertLike 참고)
+    private static final String BATCH_INSERT_LIKE_SQL = "INSERT IGNORE INTO restaurant_likes (id, user_id, restaurant_id, created_at) "
+            + "SELECT NEXT VALUE FOR restaurant_likes_seq, ?, r.id, CURRENT_TIMESTAMP(6) FROM restaurants r WHERE r.kakao_id = ?";
+
+    private static final String BATCH_DELETE_LIKE_SQL = "DELETE FROM restaurant_likes "
+            + "WHERE user_id = ? AND restaurant_id = (SELECT r.id FROM restaurants r WHERE r.kakao_id = ?)";
+
+    private static final String LIKED_AMONG_SQL = "SELECT r.kakao_id FROM restaurant_likes l "
+            + "JOIN restaurants r ON r.id = l.restaurant_id WHERE l.user_id = ? AND r.kakao_id IN (%s)";
+
     private final RestaurantRepository restaurantRepository;
     private final RestaurantLikeRepository restaurantLikeRepository;
     private final UserRepository userRepository;
+    private final LikeCountAggregator likeCountAggregator;
+    private final RestaurantSearchIndex restaurantSearchIndex;
+    private final LikedStateService likedStateService;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 일괄 찜하기에서 한 번에 전송하는 JDBC 배치 크기 */
+    @Value("${like.batch.jdbc-batch-size:100}")
+    private int jdbcBatchSize;
 
     /**
      * 식당 좋아요 토글 (찜하기/찜취소)
-     * 1. 식당이 DB에 없으면 저장
-     * 2. 이미 좋아요 상태면 취소 (삭제)
-     * 3. 아니면 좋아요 추가
+     * 1. 이미 좋아요 상태면 취소 (삭제 한 문장으로 끝)
+     * 2. 아니면 식당을 kakao_id 기준으로 upsert 후 좋아요 추가
+     *
+     * 엔티티를 조회하지 않고 네이티브 문장만 사용하므로 DB 왕복은 찜취소 1회, 찜하기 3회입니다.
+     * READ_COMMITTED: 없는 행을 삭제할 때 갭 락을 잡지 않아, 같은 식당에 대한 동시 찜하기가
+     * 서로의 INSERT를 막아 교착 상태에 빠지지 않습니다. (중복 INSERT는 무시됨)
+     *
+     * @return 토글 후 상태 (true: 찜함, false: 찜 취소)
      */
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public boolean toggleLike(Long userId, RestaurantDto restaurantDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+        // 1. 이미 찜한 상태면 삭제 (찜 취소)
+        if (restaurantLikeRepository.deleteLike(userId, restaurantDto.getId()) > 0) {
+            afterCommit(() -> {
+                likeCountAggregator.record(restaurantDto, -1);
+                likedStateService.update(userId, List.of(), List.of(restaurantDto.getId()));
+            });
+            return false;
+        }
 
-        // 1. 식당 조회 및 저장 (On-Demand Save)
-        Restaurant restaurant = restaurantRepository.findByKakaoId(restaurantDto.getId())
-                .orElseGet(() -> saveRestaurant(restaurantDto));
+        // 2. 식당 저장 (On-Demand Save)
+        saveRestaurant(restaurantDto);
+        afterCommit(() -> restaurantSearchIndex.add(restaurantDto));
 
-        // 2. 좋아요 여부 확인
-        if (restaurantLikeRepository.existsByUserAndRestaurant(user, restaurant)) {
-            // 이미 찜한 상태면 삭제 (찜 취소)
-            restaurantLikeRepository.deleteByUserAndRestaurant(user, restaurant);
-            return false;
-        } else {
-            // 찜하지 않은 상태면 추가
-            restaurantLikeRepository.save(RestaurantLike.builder()
-                    .user(user)
-                    .restaurant(restaurant)
-                    .build());
-            return true;
+        // 3. 찜 추가 (없는 사용자는 FK 위반으로 감지)
+        int inserted;
+        try {
+            inserted = restaurantLikeRepository.insertLike(userId, restaurantDto.getId());
+        } catch (DataIntegrityViolationException e) {
+            throw new UserNotFoundException(userId, e);
+        }
+        // 새 행을 추가했을 때(inserted == 1)만 찜 수 증가. 동시 요청이 먼저 추가했다면 0
+        if (inserted == 1) {
+            afterCommit(() -> likeCountAggregator.record(restaurantDto, 1));
+        } else if (!userRepository.existsById(userId)) {
+            // MariaDB의 INSERT IGNORE는 FK 위반도 0으로 무시하므로 0일 때만 사용자 존재 확인
+            throw new UserNotFoundException(userId);
+        }
+        afterCommit(() -> likedStateService.update(userId, List.of(restaurantDto.getId()), List.of()));
+        return true;
+    }
+
+    /**
+     * 일괄 찜하기/찜취소 (한 트랜잭션)
+     * 1. 요청한 식당 중 이미 찜한 식당을 한 번에 조회해 실제로 바뀌는 항목만 골라냄
+     * 2. 식당 upsert, 찜 추가, 찜 삭제를 각각 JDBC 배치로 전송
+     *
+     * 항목 수와 무관하게 DB 왕복은 사용자 확인 1회 + 조회 1회 + 배치 최대 3회입니다.
+     * 찜 수는 실제로 추가/삭제된 행만큼만 커밋 후 반영합니다.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public LikeBatchResult applyLikes(Long userId, List<LikeBatchRequest.Item> items) {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
         }
+
+        // 같은 식당이 여러 번 오면 마지막 항목만 반영 (오프라인에서 누른 순서)
+        Map<String, LikeBatchRequest.Item> latest = new LinkedHashMap<>();
+        for (LikeBatchRequest.Item item : items) {
+            if (item.getRestaurant() == null || item.getRestaurant().getId() == null) {
+                throw new BadRequestException("restaurant.id is required");
+            }
+            latest.remove(item.getRestaurant().getId());
+            latest.put(item.getRestaurant().getId(), item);
+        }
+        if (latest.isEmpty()) {
+            return new LikeBatchResult(0, 0, 0);
+        }
+
+        Set<String> alreadyLiked = findLikedAmong(userId, latest.keySet());
+        List<RestaurantDto> toLike = new ArrayList<>();
+        List<RestaurantDto> toUnlike = new ArrayList<>();
+        for (LikeBatchRequest.Item item : latest.values()) {
+            boolean liked = alreadyLiked.contains(item.getRestaurant().getId());
+            if (item.isLiked() && !liked) {
+                toLike.add(item.getRestaurant());
+            } else if (!item.isLiked() && liked) {
+                toUnlike.add(item.getRestaurant());
+            }
+        }
+
+        List<RestaurantDto> added = List.of();
+        if (!toLike.isEmpty()) {
+            jdbcTemplate.batchUpdate(BATCH_UPSERT_RESTAURANT_SQL, toLike, jdbcBatchSize, this::bindRestaurant);
+            int[][] counts = jdbcTemplate.batchUpdate(BATCH_INSERT_LIKE_SQL, toLike, jdbcBatchSize, (ps, dto) -> {
+                ps.setLong(1, userId);
+                ps.setString(2, dto.getId());
+            });
+            added = changed(toLike, counts);
+            afterCommit(() -> toLike.forEach(restaurantSearchIndex::add));
+        }
+
+        List<RestaurantDto> removed = List.of();
+        if (!toUnlike.isEmpty()) {
+            int[][] counts = jdbcTemplate.batchUpdate(BATCH_DELETE_LIKE_SQL, toUnlike, jdbcBatchSize, (ps, dto) -> {
+                ps.setLong(1, userId);
+                ps.setString(2, dto.getId());
+            });
+            removed = changed(toUnlike, counts);
+        }
+
+        List<RestaurantDto> likedDelta = added;
+        List<RestaurantDto> unlikedDelta = removed;
+        afterCommit(() -> {
+            likedDelta.forEach(dto -> likeCountAggregator.record(dto, 1));
+            unlikedDelta.forEach(dto -> likeCountAggregator.record(dto, -1));
+            likedStateService.update(userId, kakaoIds(toLike), kakaoIds(toUnlike));
+        });
+        return new LikeBatchResult(added.size(), removed.size(), latest.size() - added.size() - removed.size());
     }
 
-    private Restaurant saveRestaurant(RestaurantDto dto) {
-        Restaurant restaurant = Restaurant.builder()
-                .kakaoId(dto.getId())
-                .name(dto.getName())
-                .category(dto.getCategory())
-                .phone(dto.getPhone())
-                .address(dto.getAddress())
-                .roadAddress(dto.getRoadAddress())
-                .x(dto.getX())
-                .y(dto.getY())
-                .placeUrl(dto.getPlaceUrl())
-                .build();
-
-        return restaurantRepository.save(restaurant);
+    private static List<String> kakaoIds(List<RestaurantDto> restaurants) {
+        List<String> ids = new ArrayList<>(restaurants.size());
+        for (RestaurantDto restaurant : restaurants) {
+            ids.add(restaurant.getId());
+        }
+        return ids;
     }
 
     /**
-     * 사용자가 찜한 식당 목록 조회
+     * 주어진 식당(kakao_id) 중 사용자가 이미 찜한 식당
+     */
+    private Set<String> findLikedAmong(Long userId, Collection<String> kakaoIds) {
+        String sql = String.format(LIKED_AMONG_SQL, String.join(", ", Collections.nCopies(kakaoIds.size(), "?")));
+        List<Object> args = new ArrayList<>(kakaoIds.size() + 1);
+        args.add(userId);
+        args.addAll(kakaoIds);
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, args.toArray()));
+    }
+
+    private void bindRestaurant(PreparedStatement ps, RestaurantDto dto) throws SQLException {
+        ps.setString(1, dto.getId());
+        ps.setString(2, dto.getName());
+        ps.setString(3, dto.getCategory());
+        ps.setString(4, dto.getPhone());
+        ps.setString(5, dto.getAddress());
+        ps.setString(6, dto.getRoadAddress());
+        ps.setObject(7, GeoUtils.parseCoordinate(dto.getX()), Types.DOUBLE);
+        ps.setObject(8, GeoUtils.parseCoordinate(dto.getY()), Types.DOUBLE);
+        ps.setString(9, dto.getPlaceUrl());
+    }
+
+    /**
+     * 배치 결과에서 실제로 반영된(정확히 한 행이 추가/삭제된) 항목만 추림
+     * 행 수를 알 수 없는 결과(SUCCESS_NO_INFO)는 반영되지 않은 것으로 봅니다.
+     * (MariaDB는 useBulkStmts=false일 때 문장별 행 수를 돌려줌, application.properties 참고)
+     */
+    private static List<RestaurantDto> changed(List<RestaurantDto> items, int[][] counts) {
+        List<RestaurantDto> result = new ArrayList<>(items.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 1) {
+                    result.add(items.get(index));
+                }
+                index++;
+            }
+        }
+        return result;
+    }
+
+    private void saveRestaurant(RestaurantDto dto) {
+        restaurantRepository.upsertByKakaoId(dto);
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 실행 (롤백되면 실행하지 않음)
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 사용자가 찜한 식당 목록 조회 (최근 찜한 순)
+     * user_id로 범위를 좁힌 단일 조인 쿼리로 RestaurantDto를 바로 만듭니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (null이면 전체 목록)
      */
     @Transactional(readOnly = true)
-    public List<RestaurantDto> getLikedRestaurants(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
-
-        return restaurantLikeRepository.findAll().stream()
-                .filter(like -> like.getUser().getId().equals(userId))
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public LikedRestaurantPage getLikedRestaurants(Long userId, String cursor, Integer size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 행 더 조회
+        Pageable pageable = size == null ? Pageable.unpaged() : PageRequest.of(0, size + 1);
+
+        List<LikedRestaurantRow> rows;
+        if (cursor == null) {
+            rows = restaurantLikeRepository.findLikedRestaurants(userId, pageable);
+        } else {
+            LikeCursor after;
+            try {
+                after = LikeCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid cursor", e);
+            }
+            rows = restaurantLikeRepository.findLikedRestaurantsAfter(userId, after.likedAt(), after.likeId(), pageable);
+        }
+
+        // 결과가 없을 때만 사용자 존재 여부 확인 (기존과 동일하게 없는 사용자는 예외)
+        // findById는 2차 캐시가 켜져 있으면 DB를 거치지 않음 (existsById는 항상 쿼리 실행)
+        if (rows.isEmpty() && userRepository.findById(userId).isEmpty()) {
+            throw new UserNotFoundException(userId);
+        }
+
+        String nextCursor = null;
+        if (size != null && rows.size() > size) {
+            rows = rows.subList(0, size);
+            LikedRestaurantRow last = rows.get(rows.size() - 1);
+            nextCursor = new LikeCursor(last.getLikedAt(), last.getLikeId()).encode();
+        }
+
+        List<RestaurantDto> restaurants = new ArrayList<>(rows.size());
+        for (LikedRestaurantRow row : rows) {
+            restaurants.add(row.getRestaurant());
+        }
+        return new LikedRestaurantPage(restaurants, nextCursor);
     }
 
-    private RestaurantDto convertToDto(RestaurantLike like) {
-        Restaurant r = like.getRestaurant();
-        return RestaurantDto.builder()
-                .id(r.getKakaoId())
-                .name(r.getName())
-                .category(r.getCategory())
-                .phone(r.getPhone())
-                .address(r.getAddress())
-                .roadAddress(r.getRoadAddress())
-                .x(r.getX())
-                .y(r.getY())
-                .placeUrl(r.getPlaceUrl())
-                // .isLiked(true) // 나중에 DTO에 필드 추가 가능
-                .build();
+    /**
+     * 주변 식당 조회 (우리 DB에 저장된 식당 기준, 가까운 순)
+     * 1. 반경을 감싸는 위경도 범위(bounding box)로 인덱스 범위 조회
+     * 2. 하버사인 거리로 반경 밖(상자의 모서리 영역)을 제외
+     *
+     * @param radiusMeters 검색 반경 (미터)
+     */
+    @Transactional(readOnly = true)
+    public List<RestaurantDto> getNearbyRestaurants(double lat, double lng, double radiusMeters, int limit) {
+        double latDelta = GeoUtils.latitudeDelta(radiusMeters);
+        double lngDelta = GeoUtils.longitudeDelta(lat, radiusMeters);
+        double lngScale = Math.cos(Math.toRadians(lat));
+
+        List<Restaurant> candidates = restaurantRepository.findInBoundingBox(
+                lat - latDelta, lat + latDelta, lng - lngDelta, lng + lngDelta,
+                lat, lng, lngScale, limit);
+
+        List<RestaurantDto> result = new ArrayList<>(candidates.size());
+        for (Restaurant restaurant : candidates) {
+            if (GeoUtils.distanceMeters(lat, lng, restaurant.getY(), restaurant.getX()) <= radiusMeters) {
+                result.add(RestaurantMapper.toDto(restaurant));
+            }
+        }
+        return result;
     }
 }
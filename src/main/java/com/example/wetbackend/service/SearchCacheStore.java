@@ -0,0 +1,225 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 카카오 검색 결과 DB 캐시 (search_cache 테이블, 2차 캐시)
+ *
+ * 조회 순서: 인스턴스 메모리(searchResultCache) → DB(이 클래스) → 카카오
+ * 여러 인스턴스가 결과를 공유하고, 재배포 직후에도 DB에 남은 결과로 응답하므로 카카오 호출이 몰리지 않습니다.
+ *
+ * - 저장은 비동기: 카카오 결과를 메모리 대기열에 넣고 주기적으로 일괄 upsert 합니다. (같은 검색어는 마지막 값만)
+ * - 값은 List<RestaurantDto> JSON을 gzip으로 압축해 저장합니다.
+ * - 만료된 행은 주기적으로 나눠서 삭제합니다.
+ * - DB 오류는 캐시 miss로 취급합니다. (카카오 호출로 진행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchCacheStore {
+
+    private static final TypeReference<List<RestaurantDto>> RESULT_TYPE = new TypeReference<>() {
+    };
+
+    private static final String FIND_SQL =
+            "SELECT payload FROM search_cache WHERE query_key = ? AND expires_at > ?";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO search_cache (query_key, payload, result_count, fetched_at, expires_at) VALUES (?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE payload = VALUES(payload), result_count = VALUES(result_count), "
+                    + "fetched_at = VALUES(fetched_at), expires_at = VALUES(expires_at)";
+
+    private static final String PURGE_SQL = "DELETE FROM search_cache WHERE expires_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 아직 DB에 저장되지 않은 결과 (검색어 → 결과) */
+    private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+
+    @Value("${search.db-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.db-cache.ttl-seconds:21600}")
+    private long ttlSeconds;
+
+    @Value("${search.db-cache.flush-batch-size:100}")
+    private int flushBatchSize;
+
+    @Value("${search.db-cache.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    /**
+     * 만료되지 않은 결과를 조회합니다. 없거나 DB 오류면 null을 반환합니다.
+     */
+    public List<RestaurantDto> find(String key) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            List<byte[]> rows = jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> rs.getBytes(1),
+                    key, Timestamp.valueOf(LocalDateTime.now()));
+            if (rows.isEmpty()) {
+                misses.increment();
+                return null;
+            }
+            List<RestaurantDto> result = List.copyOf(decode(rows.get(0)));
+            hits.increment();
+            return result;
+        } catch (DataAccessException | UncheckedIOException e) {
+            log.warn("검색 결과 DB 캐시 조회 실패: {}", e.getMessage());
+            errors.increment();
+            return null;
+        }
+    }
+
+    /**
+     * 결과를 저장 대기열에 넣습니다. 실제 저장은 flush()에서 일괄로 수행합니다.
+     */
+    public void save(String key, List<RestaurantDto> result) {
+        if (enabled) {
+            pending.put(key, new Pending(result, LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * 대기 중인 결과를 일괄 upsert 합니다.
+     * 실패하면 다음 주기에 다시 시도합니다. (그 사이 같은 검색어가 새로 저장됐다면 새 값 우선)
+     */
+    @Scheduled(fixedDelayString = "${search.db-cache.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        List<Pending> values = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        Iterator<Map.Entry<String, Pending>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Pending> entry = it.next();
+            it.remove();
+            Pending value = entry.getValue();
+            keys.add(entry.getKey());
+            values.add(value);
+            batch.add(new Object[] {
+                    entry.getKey(),
+                    encode(value.result()),
+                    value.result().size(),
+                    Timestamp.valueOf(value.fetchedAt()),
+                    Timestamp.valueOf(value.fetchedAt().plusSeconds(ttlSeconds))
+            });
+        }
+
+        try {
+            for (int from = 0; from < batch.size(); from += flushBatchSize) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batch.subList(from, Math.min(from + flushBatchSize, batch.size())));
+            }
+            writes.add(batch.size());
+        } catch (DataAccessException e) {
+            log.warn("검색 결과 DB 캐시 저장 실패, 다음 주기에 재시도: {}", e.getMessage());
+            for (int i = 0; i < keys.size(); i++) {
+                pending.putIfAbsent(keys.get(i), values.get(i));
+            }
+        }
+    }
+
+    /**
+     * 만료된 행을 purgeBatchSize씩 나눠서 삭제합니다. (한 번에 큰 범위를 잠그지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${search.db-cache.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        if (!enabled) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            int deleted;
+            int total = 0;
+            do {
+                deleted = jdbcTemplate.update(PURGE_SQL, now, purgeBatchSize);
+                total += deleted;
+            } while (deleted >= purgeBatchSize);
+            if (total > 0) {
+                log.info("만료된 검색 결과 DB 캐시 삭제: {}건", total);
+            }
+        } catch (DataAccessException e) {
+            log.warn("검색 결과 DB 캐시 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private byte[] encode(List<RestaurantDto> result) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<RestaurantDto> decode(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, RESULT_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long errorCount() {
+        return errors.sum();
+    }
+
+    public long writeCount() {
+        return writes.sum();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private record Pending(List<RestaurantDto> result, LocalDateTime fetchedAt) {
+    }
+}
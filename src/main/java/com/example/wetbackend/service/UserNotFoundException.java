@@ -0,0 +1,16 @@
+package com.example.wetbackend.service;
+
+/**
+ * 요청한 사용자가 없을 때 던지는 예외 (API에서는 404로 응답)
+ * 잘못된 인자의 한 종류이므로 IllegalArgumentException을 상속합니다.
+ */
+public class UserNotFoundException extends IllegalArgumentException {
+
+    public UserNotFoundException(Long userId) {
+        super("User not found: " + userId);
+    }
+
+    public UserNotFoundException(Long userId, Throwable cause) {
+        super("User not found: " + userId, cause);
+    }
+}
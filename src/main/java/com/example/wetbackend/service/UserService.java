@@ -2,6 +2,7 @@ package com.example.wetbackend.service;
 
 import com.example.wetbackend.model.User;
 import com.example.wetbackend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -29,6 +30,15 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    /**
+     * 2차 캐시 제거용 (hibernate.cache.use_second_level_cache=true 일 때)
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LikedStateService likedStateService;
+
     /**
      * 모든 사용자 목록을 조회합니다.
      * 
@@ -76,7 +86,11 @@ public class UserService {
         user.setEmail(userDetails.getEmail());
 
         // 변경된 사용자 정보를 저장하고 반환합니다
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+
+        // 2차 캐시에서 제거하여 다음 조회가 DB의 최신 값을 읽도록 합니다
+        entityManagerFactory.getCache().evict(User.class, id);
+        return saved;
     }
 
     /**
@@ -93,5 +107,9 @@ public class UserService {
 
         // 사용자를 삭제합니다
         userRepository.delete(user);
+
+        // 2차 캐시와 찜 목록 캐시에서도 제거합니다
+        entityManagerFactory.getCache().evict(User.class, id);
+        likedStateService.evict(id);
     }
 }
@@ -0,0 +1,56 @@
+package com.example.wetbackend.support;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 실행 수를 제한하는 실행기 래퍼
+ *
+ * 한도에 도달하면 제출한 스레드를 기다리게 하지 않고 즉시 TaskRejectedException(RejectedExecutionException)으로
+ * 거절합니다. SimpleAsyncTaskExecutor의 concurrencyLimit은 자리가 날 때까지 제출 스레드를 막기 때문에
+ * 요청 스레드의 마감 시간이 지켜지지 않는데, 이를 대신하기 위한 용도입니다. (가상 스레드 모드)
+ */
+public class BoundedExecutor implements AsyncTaskExecutor {
+
+    private final AsyncTaskExecutor delegate;
+    private final Semaphore permits;
+    private final int limit;
+
+    /**
+     * @param delegate 실제로 작업을 실행할 실행기
+     * @param limit    동시에 실행할 수 있는 최대 작업 수
+     */
+    public BoundedExecutor(AsyncTaskExecutor delegate, int limit) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(limit);
+        this.limit = limit;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("동시 실행 한도(" + limit + ") 초과로 작업 거절");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 실행 중인 작업 수
+     */
+    public int activeCount() {
+        return limit - permits.availablePermits();
+    }
+}
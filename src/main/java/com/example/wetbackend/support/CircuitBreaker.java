@@ -0,0 +1,141 @@
+package com.example.wetbackend.support;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 연속 실패 기반 서킷 브레이커
+ *
+ * - CLOSED: 호출 허용. 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDuration 동안 호출을 즉시 거절 (원본이 느리거나 죽어 있을 때 스레드를 묶지 않음)
+ * - HALF_OPEN: openDuration이 지나면 한 번의 시험 호출만 허용. 성공하면 CLOSED, 실패하면 다시 OPEN
+ *
+ * 호출자는 tryAcquirePermission()이 true일 때만 원본을 호출하고, 결과에 따라 onSuccess()/onFailure()를 알려야 합니다.
+ * 서킷 때문에 원본을 호출하지 못한 요청은 onRejected()로 알립니다. (허가 확인 메서드는 집계하지 않으므로
+ * 한 요청이 isCallPermitted()와 tryAcquirePermission()을 모두 거쳐도 한 번만 집계됩니다)
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier ticker;
+
+    private volatile State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier ticker) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold must be positive: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * 지금 원본 호출을 시도할 수 있는지 확인합니다. (허가를 소비하지 않음)
+     */
+    public boolean isCallPermitted() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            return state == State.OPEN ? openElapsed() : !probeInFlight;
+        }
+    }
+
+    /**
+     * 원본 호출 허가를 얻습니다. HALF_OPEN에서는 한 호출자만 허가받습니다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (openElapsed()) {
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                    return true;
+                }
+                break;
+            case HALF_OPEN:
+                if (!probeInFlight) {
+                    probeInFlight = true;
+                    return true;
+                }
+                break;
+        }
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        successes.increment();
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+        probeInFlight = false;
+    }
+
+    /**
+     * 서킷 때문에 원본을 호출하지 않은 요청을 집계합니다.
+     */
+    public void onRejected() {
+        rejected.increment();
+    }
+
+    public synchronized void onFailure() {
+        failures.increment();
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = ticker.getAsLong();
+            probeInFlight = false;
+        }
+    }
+
+    private boolean openElapsed() {
+        return ticker.getAsLong() - openedAt >= openNanos;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public long successCount() {
+        return successes.sum();
+    }
+
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * 서킷이 열려 있어 거절된 호출 수
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 서킷이 열려 있어 호출하지 않았음을 나타내는 예외
+     */
+    public static class CallNotPermittedException extends RuntimeException {
+        public CallNotPermittedException(String message) {
+            super(message);
+        }
+    }
+}
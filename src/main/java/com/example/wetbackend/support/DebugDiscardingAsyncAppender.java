@@ -0,0 +1,19 @@
+package com.example.wetbackend.support;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 큐가 차면 DEBUG 이하만 버리는 비동기 appender
+ *
+ * 기본 AsyncAppender는 큐 잔여량이 discardingThreshold 아래로 떨어지면 INFO까지 버립니다.
+ * 운영에서는 요청 요약(INFO)과 경고/오류는 유지하고, 샘플링된 페이로드 등 DEBUG/TRACE만 먼저 버립니다.
+ */
+public class DebugDiscardingAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return event.getLevel().toInt() <= Level.DEBUG_INT;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.wetbackend.support;
+
+import java.math.BigDecimal;
+
+/**
+ * 위경도 좌표 계산 유틸리티
+ * 카카오 좌표계 기준 x = 경도(longitude), y = 위도(latitude) 입니다.
+ */
+public final class GeoUtils {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+    private static final double METERS_PER_DEGREE_LAT = 111_320.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (하버사인 공식, 미터)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 반경(미터)에 해당하는 위도 차이 (도)
+     */
+    public static double latitudeDelta(double radiusMeters) {
+        return radiusMeters / METERS_PER_DEGREE_LAT;
+    }
+
+    /**
+     * 주어진 위도에서 반경(미터)에 해당하는 경도 차이 (도)
+     */
+    public static double longitudeDelta(double latitude, double radiusMeters) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        return radiusMeters / (METERS_PER_DEGREE_LAT * Math.max(cos, 1e-6));
+    }
+
+    /**
+     * 좌표 문자열을 숫자로 변환 (비어 있거나 형식이 잘못되면 null)
+     */
+    public static Double parseCoordinate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 좌표 숫자를 카카오 응답과 같은 일반 소수 문자열로 변환 (null이면 null)
+     */
+    public static String formatCoordinate(Double value) {
+        return value == null ? null : BigDecimal.valueOf(value).toPlainString();
+    }
+}
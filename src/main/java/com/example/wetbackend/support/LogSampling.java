@@ -0,0 +1,24 @@
+package com.example.wetbackend.support;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로그 샘플링 유틸리티
+ * 요청마다 남기기엔 비싼 로그(응답 전체 등)를 일정 비율만 기록할 때 사용합니다.
+ */
+public final class LogSampling {
+
+    private LogSampling() {
+    }
+
+    /**
+     * @param rate 기록 비율 (0.0 ~ 1.0). 1.0 이상이면 항상, 0 이하면 기록하지 않음
+     * @return 이번 호출을 기록할지 여부
+     */
+    public static boolean sample(double rate) {
+        if (rate >= 1.0) {
+            return true;
+        }
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.wetbackend.support;
+
+import com.example.wetbackend.model.KakaoSearchPage;
+import com.example.wetbackend.model.KakaoSearchResponse;
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.model.entity.Restaurant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 식당 응답 DTO(RestaurantDto) 변환 유틸리티
+ * 카카오 검색 응답(역직렬화 경로)과 Restaurant 엔티티를 API 응답 형태로 바꿉니다.
+ */
+public final class RestaurantMapper {
+
+    private RestaurantMapper() {
+    }
+
+    /**
+     * 역직렬화한 카카오 검색 응답 → 페이지 (본문이나 documents가 없으면 빈 페이지)
+     */
+    public static KakaoSearchPage toPage(KakaoSearchResponse response) {
+        if (response == null || response.getDocuments() == null) {
+            return KakaoSearchPage.EMPTY;
+        }
+        List<RestaurantDto> restaurants = new ArrayList<>(response.getDocuments().size());
+        for (KakaoSearchResponse.Document document : response.getDocuments()) {
+            restaurants.add(toDto(document));
+        }
+        return new KakaoSearchPage(response.getMeta(), restaurants);
+    }
+
+    public static RestaurantDto toDto(KakaoSearchResponse.Document document) {
+        return RestaurantDto.builder()
+                .id(document.getId())
+                .name(document.getPlaceName())
+                .category(document.getCategoryName())
+                .phone(document.getPhone())
+                .address(document.getAddressName())
+                .roadAddress(document.getRoadAddressName())
+                .x(document.getX())
+                .y(document.getY())
+                .placeUrl(document.getPlaceUrl())
+                .build();
+    }
+
+    public static RestaurantDto toDto(Restaurant r) {
+        return RestaurantDto.builder()
+                .id(r.getKakaoId())
+                .name(r.getName())
+                .category(r.getCategory())
+                .phone(r.getPhone())
+                .address(r.getAddress())
+                .roadAddress(r.getRoadAddress())
+                .x(GeoUtils.formatCoordinate(r.getX()))
+                .y(GeoUtils.formatCoordinate(r.getY()))
+                .placeUrl(r.getPlaceUrl())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.wetbackend.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키에 대한 동시 요청 병합(single-flight)
+ *
+ * 같은 키로 동시에 들어온 요청 중 첫 번째 호출자(leader)만 실제 작업을 수행하고,
+ * 나머지 호출자(waiter)는 leader의 결과를 함께 받습니다. 얼마나 기다릴지는 호출자가 정합니다.
+ * 작업이 끝나면(성공/실패 무관) 키는 즉시 등록 해제되므로 결과 자체를 보관하지는 않습니다.
+ * 결과 재사용이 필요하면 앞단에 캐시를 두면 됩니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * 키에 대한 작업을 실행하거나, 이미 진행 중이면 그 결과를 공유합니다.
+     *
+     * leader의 supplier를 executor에서 실행하고, 같은 키의 호출자 모두에게 같은 결과의 future를 반환합니다.
+     * 호출자는 각자 원하는 시간만큼만 기다릴 수 있으며(future.get(timeout)), 기다리기를 포기해도
+     * 작업은 백그라운드에서 끝까지 진행됩니다. (결과를 캐시에 저장하는 작업이면 다음 요청이 그 결과를 사용)
+     * executor가 작업을 거절하면 RejectedExecutionException으로 완료된 future를 반환합니다.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<V> supplier, Executor executor) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            shared.increment();
+            return existing.copy();
+        }
+
+        executions.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    mine.complete(supplier.get());
+                } catch (Throwable t) {
+                    mine.completeExceptionally(t);
+                } finally {
+                    inFlight.remove(key, mine);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+        }
+        // 한 호출자가 취소해도 다른 호출자와 백그라운드 작업에 영향이 없도록 복사본 반환
+        return mine.copy();
+    }
+
+    /**
+     * 현재 진행 중인 키 개수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 실제로 실행된 작업 수
+     */
+    public long executionCount() {
+        return executions.sum();
+    }
+
+    /**
+     * 다른 호출자의 결과를 공유받은 요청 수
+     */
+    public long sharedCount() {
+        return shared.sum();
+    }
+}
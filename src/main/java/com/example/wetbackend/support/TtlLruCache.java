@@ -0,0 +1,197 @@
+package com.example.wetbackend.support;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 제한(LRU)과 항목별 만료 시간(TTL)을 갖는 인메모리 캐시
+ *
+ * - maxSize를 넘으면 가장 오래 사용되지 않은 항목부터 제거합니다.
+ * - 각 항목은 저장 시점부터 ttl이 지나면 만료되어 get()으로 조회되지 않습니다.
+ * - staleTtl을 지정하면 만료된 항목도 그 기간 동안 보관되어 getStale()로 조회할 수 있습니다.
+ *   (원본 장애 시 마지막 정상 값으로 응답하는 stale-while-revalidate 용도)
+ * - hit / miss / stale hit / eviction / expiration 횟수를 집계합니다.
+ *
+ * 내부 LinkedHashMap은 접근 순서(access-order)로 동작하며 모든 접근은 동기화됩니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class TtlLruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public TtlLruCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Duration.ZERO);
+    }
+
+    /**
+     * @param staleTtl 만료 후에도 getStale()로 조회할 수 있도록 보관하는 기간
+     */
+    public TtlLruCache(int maxSize, Duration ttl, Duration staleTtl) {
+        this(maxSize, ttl, staleTtl, System::nanoTime);
+    }
+
+    public TtlLruCache(int maxSize, Duration ttl, LongSupplier ticker) {
+        this(maxSize, ttl, Duration.ZERO, ticker);
+    }
+
+    public TtlLruCache(int maxSize, Duration ttl, Duration staleTtl, LongSupplier ticker) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.staleNanos = staleTtl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > TtlLruCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 값을 조회합니다. 없거나 만료되었으면 null을 반환합니다.
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        long now = ticker.getAsLong();
+        if (entry.isExpired(now)) {
+            // 보관 기간(staleTtl)이 남아 있으면 getStale()용으로 남겨 둠
+            if (entry.isExpired(now - staleNanos)) {
+                entries.remove(key);
+                expirations.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * get()과 같지만 hit/miss 통계에 포함되지 않습니다.
+     * 같은 요청 안에서 이미 get()으로 miss를 집계한 뒤 다시 확인할 때 사용합니다. (miss 이중 집계 방지)
+     */
+    public synchronized V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired(ticker.getAsLong())) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 만료 여부와 무관하게 보관 중인 값을 조회합니다. (마지막 정상 값)
+     * 보관 기간(ttl + staleTtl)이 지났거나 없으면 null을 반환합니다.
+     * hit/miss 통계에는 포함되지 않으며, 만료된 값을 반환한 경우 stale hit으로 집계합니다.
+     */
+    public synchronized V getStale(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = ticker.getAsLong();
+        if (entry.isExpired(now - staleNanos)) {
+            entries.remove(key);
+            expirations.increment();
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            staleHits.increment();
+        }
+        return entry.value;
+    }
+
+    /**
+     * 만료 여부와 무관하게 보관 중인 값이 있는지 확인합니다. (통계에 포함되지 않음)
+     */
+    public synchronized boolean contains(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired(ticker.getAsLong() - staleNanos);
+    }
+
+    /**
+     * 값을 저장합니다. 같은 키가 있으면 덮어쓰고 만료 시간을 갱신합니다.
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, ticker.getAsLong() + ttlNanos));
+    }
+
+    /**
+     * 기본 ttl 대신 지정한 ttl로 값을 저장합니다. (일부만 성공한 결과처럼 짧게만 재사용할 값)
+     */
+    public synchronized void put(K key, V value, Duration ttl) {
+        entries.put(key, new Entry<>(value, ticker.getAsLong() + ttl.toNanos()));
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * 보관 기간까지 지난 항목을 일괄 제거합니다. (주기적 정리용)
+     */
+    public synchronized void cleanUp() {
+        long now = ticker.getAsLong() - staleNanos;
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().isExpired(now)) {
+                it.remove();
+                expirations.increment();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public Stats stats() {
+        return new Stats(size(), hits.sum(), misses.sum(), staleHits.sum(), evictions.sum(), expirations.sum());
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public record Stats(int size, long hits, long misses, long staleHits, long evictions, long expirations) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
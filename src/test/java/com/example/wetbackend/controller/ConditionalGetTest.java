@@ -0,0 +1,143 @@
+package com.example.wetbackend.controller;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.repository.RestaurantLikeRepository;
+import com.example.wetbackend.repository.RestaurantRepository;
+import com.example.wetbackend.repository.UserRepository;
+import com.example.wetbackend.service.RestaurantService;
+import com.example.wetbackend.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.example.wetbackend.support.TestFixtures.newUser;
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETag / If-None-Match 조건부 조회 테스트
+ * 찜 목록은 DB 상태로 계산한 사용자별 버전으로, 사용자 목록은 응답 본문 해시로 ETag를 만듭니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private RestaurantLikeRepository restaurantLikeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void likesNotModifiedOnlyReadsVersion() throws Exception {
+        Long userId = newUser(userRepository, "etag");
+        like(userId);
+        String url = "/api/restaurants/likes?userId=" + userId;
+        String etag = etag(url);
+        assertThat(etag).startsWith("W/");
+
+        QueryCounter.reset();
+        mockMvc.perform(get(url).header("If-None-Match", etag)).andExpect(status().isNotModified());
+        assertThat(QueryCounter.count()).as(QueryCounter.statements().toString()).isEqualTo(1);
+    }
+
+    @Test
+    void likesEtagChangesWhenAnotherInstanceWrites() throws Exception {
+        Long userId = newUser(userRepository, "etag");
+        like(userId);
+        String url = "/api/restaurants/likes?userId=" + userId;
+        String before = etag(url);
+
+        // 다른 인스턴스의 찜: 이 인스턴스의 서비스(캐시 갱신)를 거치지 않고 DB에만 추가
+        String kakaoId = uniqueId("etag");
+        transactionTemplate.executeWithoutResult(status -> {
+            restaurantRepository.upsertByKakaoId(RestaurantDto.builder().id(kakaoId).name("다른 인스턴스 식당").build());
+            restaurantLikeRepository.insertLike(userId, kakaoId);
+        });
+        mockMvc.perform(get(url).header("If-None-Match", before)).andExpect(status().isOk());
+    }
+
+    @Test
+    void likesEtagChangesWhenLikedRestaurantChanges() throws Exception {
+        Long userId = newUser(userRepository, "etag");
+        String kakaoId = like(userId);
+        String url = "/api/restaurants/likes?userId=" + userId;
+        String before = etag(url);
+
+        // 다른 사용자의 찜으로 같은 식당 정보가 카카오 최신 정보로 갱신됨
+        restaurantService.toggleLike(newUser(userRepository, "etag"), RestaurantDto.builder().id(kakaoId).name("이름이 바뀐 식당").build());
+        mockMvc.perform(get(url).header("If-None-Match", before)).andExpect(status().isOk());
+    }
+
+    @Test
+    void likesOfMissingUserIsNotFoundEvenWithEtag() throws Exception {
+        mockMvc.perform(get("/api/restaurants/likes?userId=-1").header("If-None-Match", "W/\"0.0.0-1\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void likesEtagChangesWhenLikesChange() throws Exception {
+        Long userId = newUser(userRepository, "etag");
+        String url = "/api/restaurants/likes?userId=" + userId;
+        String before = etag(url);
+
+        like(userId);
+        String after = mockMvc.perform(get(url).header("If-None-Match", before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    void likesEtagDiffersPerPage() throws Exception {
+        Long userId = newUser(userRepository, "etag");
+        like(userId);
+        like(userId);
+        String url = "/api/restaurants/likes?userId=" + userId;
+
+        // 버전이 같아도 다른 페이지의 ETag로 304를 받으면 안 됨
+        String firstPage = etag(url + "&size=1");
+        mockMvc.perform(get(url + "&size=2").header("If-None-Match", firstPage)).andExpect(status().isOk());
+        mockMvc.perform(get(url).header("If-None-Match", firstPage)).andExpect(status().isOk());
+    }
+
+    @Test
+    void usersNotModifiedUntilListChanges() throws Exception {
+        newUser(userRepository, "etag");
+        String etag = etag("/api/users");
+        assertThat(etag).startsWith("W/");
+        mockMvc.perform(get("/api/users").header("If-None-Match", etag)).andExpect(status().isNotModified());
+
+        newUser(userRepository, "etag");
+        mockMvc.perform(get("/api/users").header("If-None-Match", etag)).andExpect(status().isOk());
+    }
+
+    private String etag(String url) throws Exception {
+        return mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+    }
+
+    private String like(Long userId) {
+        String kakaoId = uniqueId("etag");
+        restaurantService.toggleLike(userId, RestaurantDto.builder().id(kakaoId).name("ETag 식당 " + kakaoId).build());
+        return kakaoId;
+    }
+}
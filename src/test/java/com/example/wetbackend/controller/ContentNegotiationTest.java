@@ -0,0 +1,90 @@
+package com.example.wetbackend.controller;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.repository.UserRepository;
+import com.example.wetbackend.service.RestaurantService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.wetbackend.support.TestFixtures.newUser;
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 응답 형식 협상 테스트 (MessageConverterConfig)
+ * Accept로 CBOR/Smile을 고를 수 있고, 그 외에는 JSON이며, 세 형식의 내용은 같아야 합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    private String url;
+
+    @BeforeEach
+    void likeOneRestaurant() {
+        Long userId = newUser(userRepository, "negotiation");
+        restaurantService.toggleLike(userId, RestaurantDto.builder()
+                .id(uniqueId("format"))
+                .name("형식 식당")
+                .category("음식점 > 한식")
+                .build());
+        url = "/api/restaurants/likes?userId=" + userId;
+    }
+
+    @Test
+    void defaultsToJson() throws Exception {
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get(url).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void cborCarriesTheSameContentAsJson() throws Exception {
+        assertThat(read(MediaType.APPLICATION_CBOR, new ObjectMapper(new CBORFactory())))
+                .isEqualTo(read(MediaType.APPLICATION_JSON, new ObjectMapper()));
+    }
+
+    @Test
+    void smileCarriesTheSameContentAsJson() throws Exception {
+        assertThat(read(SMILE, new ObjectMapper(new SmileFactory())))
+                .isEqualTo(read(MediaType.APPLICATION_JSON, new ObjectMapper()));
+    }
+
+    private JsonNode read(MediaType mediaType, ObjectMapper mapper) throws Exception {
+        byte[] body = mockMvc.perform(get(url).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+        JsonNode tree = mapper.readTree(body);
+        assertThat(tree.path(0).path("name").asText()).isEqualTo("형식 식당");
+        return tree;
+    }
+}
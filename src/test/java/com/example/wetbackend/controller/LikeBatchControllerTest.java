@@ -0,0 +1,138 @@
+package com.example.wetbackend.controller;
+
+import com.example.wetbackend.model.LikeBatchRequest;
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.repository.UserRepository;
+import com.example.wetbackend.service.LikeCountAggregator;
+import com.example.wetbackend.support.QueryCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.wetbackend.support.TestFixtures.newUser;
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일괄 찜하기 (POST /api/restaurants/likes/batch) 테스트
+ * 항목은 토글이 아닌 목표 상태이며, 같은 식당은 마지막 항목만 반영됩니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LikeBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LikeCountAggregator likeCountAggregator;
+
+    @Test
+    void appliesLastEntryPerRestaurantAndReportsOnlyRealChanges() throws Exception {
+        Long userId = newUser(userRepository, "batch");
+        String a = uniqueId("batch");
+        String b = uniqueId("batch");
+        String c = uniqueId("batch");
+
+        send(userId, item(a, true), item(b, true), item(c, false))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.liked").value(2))
+                .andExpect(jsonPath("$.unliked").value(0))
+                .andExpect(jsonPath("$.unchanged").value(1));
+
+        send(userId, item(a, true), item(b, false), item(c, false), item(c, true))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.liked").value(1))
+                .andExpect(jsonPath("$.unliked").value(1))
+                .andExpect(jsonPath("$.unchanged").value(1));
+
+        mockMvc.perform(get("/api/restaurants/likes?userId=" + userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(containsInAnyOrder(a, c)));
+        assertThat(likeCountAggregator.getLikeCount(a)).isEqualTo(1);
+        assertThat(likeCountAggregator.getLikeCount(b)).isZero();
+        assertThat(likeCountAggregator.getLikeCount(c)).isEqualTo(1);
+    }
+
+    @Test
+    void resendingTheSameBatchChangesNothing() throws Exception {
+        Long userId = newUser(userRepository, "batch");
+        LikeBatchRequest.Item[] items = { item(uniqueId("batch"), true), item(uniqueId("batch"), true) };
+
+        send(userId, items).andExpect(jsonPath("$.liked").value(2));
+        send(userId, items)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.liked").value(0))
+                .andExpect(jsonPath("$.unchanged").value(2));
+        assertThat(likeCountAggregator.getLikeCount(items[0].getRestaurant().getId())).isEqualTo(1);
+    }
+
+    @Test
+    void roundTripsDoNotGrowWithBatchSize() throws Exception {
+        int small = countQueries(newUser(userRepository, "batch"), 3);
+        int large = countQueries(newUser(userRepository, "batch"), 40);
+
+        // 사용자 확인 + 찜 여부 조회 + 식당 upsert 배치 + 찜 추가 배치
+        assertThat(large).as(QueryCounter.statements().toString()).isEqualTo(small).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void rejectsMissingUserIdAndOversizedBatch() throws Exception {
+        mockMvc.perform(post("/api/restaurants/likes/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"likes\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        LikeBatchRequest.Item[] tooMany = new LikeBatchRequest.Item[501];
+        for (int i = 0; i < tooMany.length; i++) {
+            tooMany[i] = item(uniqueId("batch"), true);
+        }
+        send(newUser(userRepository, "batch"), tooMany).andExpect(status().isBadRequest());
+    }
+
+    private int countQueries(Long userId, int size) throws Exception {
+        List<LikeBatchRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(item(uniqueId("batch"), true));
+        }
+        QueryCounter.reset();
+        send(userId, items.toArray(LikeBatchRequest.Item[]::new)).andExpect(status().isOk());
+        return QueryCounter.count();
+    }
+
+    private ResultActions send(Long userId, LikeBatchRequest.Item... items) throws Exception {
+        LikeBatchRequest request = new LikeBatchRequest();
+        request.setUserId(userId);
+        request.setLikes(List.of(items));
+        return mockMvc.perform(post("/api/restaurants/likes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(request)));
+    }
+
+    private static LikeBatchRequest.Item item(String kakaoId, boolean liked) {
+        LikeBatchRequest.Item item = new LikeBatchRequest.Item();
+        item.setRestaurant(RestaurantDto.builder().id(kakaoId).name("배치 식당 " + kakaoId).build());
+        item.setLiked(liked);
+        return item;
+    }
+}
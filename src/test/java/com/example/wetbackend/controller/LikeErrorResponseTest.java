@@ -0,0 +1,64 @@
+package com.example.wetbackend.controller;
+
+import com.example.wetbackend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.wetbackend.support.TestFixtures.newUser;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 찜 API 오류 응답 테스트
+ * 잘못된 요청 값은 400, 없는 사용자는 404로 응답해야 합니다. (500이 아님)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LikeErrorResponseTest {
+
+    private static final long MISSING_USER_ID = -1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void malformedCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/restaurants/likes?userId=" + newUser(userRepository, "error") + "&size=10&cursor=not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+    }
+
+    @Test
+    void likesOfMissingUserIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/restaurants/likes?userId=" + MISSING_USER_ID))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void toggleAndBatchForMissingUserIsNotFound() throws Exception {
+        mockMvc.perform(post("/api/restaurants/like").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + MISSING_USER_ID + ",\"restaurant\":{\"id\":\"error-missing-user\",\"name\":\"없는 사용자\"}}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/restaurants/likes/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + MISSING_USER_ID + ",\"likes\":[]}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void batchItemWithoutRestaurantIdIsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/restaurants/likes/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + newUser(userRepository, "error") + ",\"likes\":[{\"restaurant\":{\"name\":\"id 없음\"},\"liked\":true}]}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.wetbackend.controller;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.repository.UserRepository;
+import com.example.wetbackend.service.RestaurantService;
+import com.example.wetbackend.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.example.wetbackend.support.TestFixtures.newUser;
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 식당 API 요청당 SQL 문장 수 회귀 테스트
+ * 찜 개수와 무관하게 문장 수가 일정해야 합니다. (N+1, 전체 조회 방지)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RestaurantControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Test
+    void likesIssuesConstantQueriesRegardlessOfLikeCount() throws Exception {
+        Long few = userWithLikes(3);
+        Long many = userWithLikes(60);
+
+        int fewQueries = countLikesQueries("/api/restaurants/likes?userId=" + few + "&size=20");
+        int manyQueries = countLikesQueries("/api/restaurants/likes?userId=" + many + "&size=20");
+
+        // ETag용 찜 목록 버전 + 목록 조회
+        assertThat(manyQueries).isEqualTo(fewQueries);
+        assertThat(manyQueries).isLessThanOrEqualTo(2);
+        assertThat(QueryCounter.unboundedSelects("restaurant_likes")).isEmpty();
+    }
+
+    @Test
+    void likesNextPageIssuesSinglePageQuery() throws Exception {
+        Long userId = userWithLikes(30);
+        MvcResult first = mockMvc.perform(get("/api/restaurants/likes?userId=" + userId + "&size=10"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String cursor = first.getResponse().getHeader("X-Next-Cursor");
+        assertThat(cursor).isNotNull();
+
+        assertThat(countLikesQueries("/api/restaurants/likes?userId=" + userId + "&size=10&cursor=" + cursor))
+                .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void likesForUserWithoutLikesChecksUserOnce() throws Exception {
+        Long userId = userWithLikes(0);
+
+        // 찜이 없을 때만 사용자 존재 여부를 확인 (두 번째 확인은 사용자 2차 캐시에서)
+        assertThat(countLikesQueries("/api/restaurants/likes?userId=" + userId)).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void toggleLikeIssuesConstantQueries() throws Exception {
+        Long userId = userWithLikes(40);
+        String body = "{\"userId\":" + userId + ",\"restaurant\":{\"id\":\"toggle-1\",\"name\":\"토글 식당\","
+                + "\"category\":\"음식점 > 한식\",\"x\":\"127.0286\",\"y\":\"37.4979\"}}";
+
+        // 찜하기: 삭제 시도 + 식당 upsert + 찜 추가
+        QueryCounter.reset();
+        mockMvc.perform(post("/api/restaurants/like").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        assertThat(QueryCounter.count()).as(QueryCounter.statements().toString()).isLessThanOrEqualTo(3);
+
+        // 찜 취소: 삭제 한 문장
+        QueryCounter.reset();
+        mockMvc.perform(post("/api/restaurants/like").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        assertThat(QueryCounter.count()).as(QueryCounter.statements().toString()).isLessThanOrEqualTo(1);
+    }
+
+    private int countLikesQueries(String url) throws Exception {
+        QueryCounter.reset();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        return QueryCounter.count();
+    }
+
+    private Long userWithLikes(int likes) {
+        String prefix = uniqueId("query");
+        Long userId = newUser(userRepository, "tester");
+        for (int i = 0; i < likes; i++) {
+            restaurantService.toggleLike(userId, RestaurantDto.builder()
+                    .id(prefix + "-" + i)
+                    .name("테스트 식당 " + i)
+                    .category("음식점 > 한식")
+                    .address("서울 강남구 역삼동 " + i)
+                    .x("127.0286")
+                    .y("37.4979")
+                    .build());
+        }
+        return userId;
+    }
+}
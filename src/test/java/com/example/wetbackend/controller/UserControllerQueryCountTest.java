@@ -0,0 +1,61 @@
+package com.example.wetbackend.controller;
+
+import com.example.wetbackend.repository.UserRepository;
+import com.example.wetbackend.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.wetbackend.support.TestFixtures.newUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 API 요청당 SQL 문장 수 회귀 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void listUsersIssuesSingleQueryRegardlessOfUserCount() throws Exception {
+        createUsers(3);
+        QueryCounter.reset();
+        mockMvc.perform(get("/api/users")).andExpect(status().isOk());
+        int fewQueries = QueryCounter.count();
+
+        createUsers(30);
+        QueryCounter.reset();
+        mockMvc.perform(get("/api/users")).andExpect(status().isOk());
+
+        assertThat(QueryCounter.count()).isEqualTo(fewQueries).isEqualTo(1);
+    }
+
+    @Test
+    void getUserIssuesSingleQuery() throws Exception {
+        Long userId = newUser(userRepository, "tester");
+
+        QueryCounter.reset();
+        mockMvc.perform(get("/api/users/" + userId)).andExpect(status().isOk());
+
+        assertThat(QueryCounter.count()).isEqualTo(1);
+        assertThat(QueryCounter.unboundedSelects("users")).isEmpty();
+    }
+
+    private void createUsers(int count) {
+        for (int i = 0; i < count; i++) {
+            newUser(userRepository, "tester" + i);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.wetbackend.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카카오 검색어 정규화 테스트
+ * 정규화 결과는 카카오에 보내는 검색어이자 캐시 키이므로, 결과가 다를 수 있는 검색어는 같은 키가 되면 안 됩니다.
+ */
+class KakaoQueryNormalizationTest {
+
+    @Test
+    void collapsesWhitespaceAndCase() {
+        assertThat(KakaoMapService.normalizeQuery("  서울시  강남구\t역삼동 맛집 "))
+                .isEqualTo("서울시 강남구 역삼동 맛집");
+        assertThat(KakaoMapService.normalizeQuery("Gangnam  COEX")).isEqualTo("gangnam coex");
+    }
+
+    @Test
+    void keepsSuffixSoDifferentSearchesDoNotShareCache() {
+        assertThat(KakaoMapService.normalizeQuery("강남 맛집"))
+                .isNotEqualTo(KakaoMapService.normalizeQuery("강남"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.support.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카카오를 호출할 수 없을 때의 대체 결과 테스트
+ * 메모리 캐시가 비어 있어도(재시작 직후) DB 캐시에 남은 결과로 응답해야 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class KakaoSearchFallbackTest {
+
+    @Autowired
+    private KakaoMapService kakaoMapService;
+
+    @Autowired
+    private SearchCacheStore searchCacheStore;
+
+    @Autowired
+    private CircuitBreaker kakaoCircuitBreaker;
+
+    @BeforeEach
+    void openCircuit() {
+        while (kakaoCircuitBreaker.state() != CircuitBreaker.State.OPEN) {
+            kakaoCircuitBreaker.onFailure();
+        }
+    }
+
+    @AfterEach
+    void closeCircuit() {
+        kakaoCircuitBreaker.onSuccess();
+    }
+
+    @Test
+    void openCircuitServesDatabaseCache() {
+        String query = uniqueId("fallback");
+        RestaurantDto stored = RestaurantDto.builder().id("fallback-1").name("DB 캐시 식당").build();
+        searchCacheStore.save(KakaoMapService.normalizeQuery(query), List.of(stored));
+        searchCacheStore.flush();
+
+        assertThat(kakaoMapService.searchRestaurants(query)).extracting(RestaurantDto::getId).containsExactly("fallback-1");
+    }
+
+    @Test
+    void openCircuitWithoutAnyCacheReturnsEmpty() {
+        long rejected = kakaoCircuitBreaker.rejectedCount();
+        assertThat(kakaoMapService.searchRestaurants(uniqueId("fallback"))).isEmpty();
+        assertThat(kakaoCircuitBreaker.rejectedCount()).isEqualTo(rejected + 1);
+    }
+}
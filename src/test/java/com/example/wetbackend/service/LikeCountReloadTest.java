@@ -0,0 +1,100 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.repository.RestaurantRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 찜 수 집계기 reload/flush 테스트
+ * DB 값을 읽은 뒤 뷰를 교체하기 전까지 기록된 증감값도 새 뷰에 남아야 합니다.
+ * 집계기는 로드 중에 증감을 일으킬 수 있도록 직접 만들어 씁니다. (스프링 빈과 상태를 공유하지 않음)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LikeCountReloadTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recordsDuringReloadSurviveTheSwap() {
+        RestaurantDto stored = savedRestaurant(5);
+        RestaurantDto unsaved = restaurant();
+
+        LikeCountAggregator[] aggregator = new LikeCountAggregator[1];
+        aggregator[0] = aggregator(() -> {
+            // DB 행은 이미 읽었고 새 뷰로 교체되기 전
+            aggregator[0].record(stored, 1);
+            aggregator[0].record(unsaved, 1);
+        });
+        aggregator[0].load();
+
+        assertThat(aggregator[0].getLikeCount(stored.getId())).isEqualTo(6);
+        assertThat(aggregator[0].getLikeCount(unsaved.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void flushRemovesEntriesThatReachedZero() {
+        RestaurantDto stored = savedRestaurant(0);
+        RestaurantDto cancelled = restaurant();
+        LikeCountAggregator aggregator = aggregator(() -> { });
+
+        aggregator.record(stored, 1);
+        aggregator.record(cancelled, 1);
+        aggregator.record(cancelled, -1);
+        aggregator.flush();
+        assertThat(aggregator.pendingCount()).isEqualTo(1); // 방금 반영한 항목은 다음 주기에 제거
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM restaurants WHERE kakao_id = ?", Long.class,
+                stored.getId())).isEqualTo(1);
+
+        aggregator.flush();
+        assertThat(aggregator.pendingCount()).isZero();
+    }
+
+    /** DB 행을 모두 읽은 직후 afterRows를 실행하는 집계기 */
+    private LikeCountAggregator aggregator(Runnable afterRows) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource) {
+            @Override
+            public void query(String sql, RowCallbackHandler rch) {
+                super.query(sql, rch);
+                afterRows.run();
+            }
+        };
+        LikeCountAggregator aggregator = new LikeCountAggregator(jdbc, transactionTemplate);
+        ReflectionTestUtils.setField(aggregator, "flushBatchSize", 100);
+        return aggregator;
+    }
+
+    private RestaurantDto savedRestaurant(long likeCount) {
+        RestaurantDto restaurant = restaurant();
+        transactionTemplate.executeWithoutResult(status -> restaurantRepository.upsertByKakaoId(restaurant));
+        jdbcTemplate.update("UPDATE restaurants SET like_count = ? WHERE kakao_id = ?", likeCount, restaurant.getId());
+        return restaurant;
+    }
+
+    private static RestaurantDto restaurant() {
+        String kakaoId = uniqueId("reload");
+        return RestaurantDto.builder().id(kakaoId).name("찜 수 식당 " + kakaoId).build();
+    }
+}
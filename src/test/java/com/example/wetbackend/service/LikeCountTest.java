@@ -0,0 +1,68 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.repository.RestaurantLikeRepository;
+import com.example.wetbackend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.example.wetbackend.support.TestFixtures.newUser;
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 찜 수(like_count) 증감 정확도 테스트
+ * 같은 (사용자, 식당) 찜이 중복으로 들어와도 찜 수는 한 번만 증가해야 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LikeCountTest {
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private RestaurantLikeRepository restaurantLikeRepository;
+
+    @Autowired
+    private LikeCountAggregator likeCountAggregator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void duplicateLikeInsertDoesNotIncreaseLikeCount() {
+        Long userId = newUser(userRepository, "tester");
+        String kakaoId = uniqueId("count");
+
+        assertThat(restaurantService.toggleLike(userId, RestaurantDto.builder().id(kakaoId).name("찜 수 식당").build()))
+                .isTrue();
+
+        // 동시 요청이 같은 찜을 한 번 더 넣는 경우: 중복은 0행으로 보고되어야 함
+        Integer duplicate = transactionTemplate.execute(status -> restaurantLikeRepository.insertLike(userId, kakaoId));
+        assertThat(duplicate).isZero();
+
+        likeCountAggregator.flush();
+        assertThat(likeCountAggregator.getLikeCount(kakaoId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM restaurants WHERE kakao_id = ?", Long.class, kakaoId))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void likeForMissingUserIsRejected() {
+        assertThatThrownBy(() -> restaurantService.toggleLike(-1L,
+                RestaurantDto.builder().id("count-missing-user").name("없는 사용자").build()))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.support.TtlLruCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 찜 집합 로드 중 찜 상태가 바뀌는 경우 (스프링 컨텍스트 없이)
+ * DB 조회 도중의 변경은 조회 결과를 반환하는 가짜 JdbcTemplate 안에서 일으킵니다.
+ */
+class LikedStateLoadRaceTest {
+
+    private static final long LOADING_USER = 1L;
+    private static final long OTHER_USER = 2L;
+
+    private final TtlLruCache<Long, Set<String>> likedSetCache = new TtlLruCache<>(100, Duration.ofMinutes(10));
+
+    @Test
+    void otherUsersWriteDuringLoadStillCaches() {
+        LikedStateService[] service = new LikedStateService[1];
+        service[0] = new LikedStateService(likedSetCache, jdbcDuringLoad(
+                () -> service[0].update(OTHER_USER, List.of("b"), List.of())), null);
+
+        assertThat(service[0].likedKakaoIds(LOADING_USER)).containsExactly("a");
+        assertThat(likedSetCache.get(LOADING_USER)).containsExactly("a");
+    }
+
+    @Test
+    void sameUsersWriteDuringLoadSkipsCaching() {
+        LikedStateService[] service = new LikedStateService[1];
+        service[0] = new LikedStateService(likedSetCache, jdbcDuringLoad(
+                () -> service[0].update(LOADING_USER, List.of("b"), List.of())), null);
+
+        assertThat(service[0].likedKakaoIds(LOADING_USER)).containsExactly("a");
+        assertThat(likedSetCache.get(LOADING_USER)).isNull();
+    }
+
+    /** 찜 집합 조회 중에 duringLoad를 실행하고 ["a"]를 반환하는 JdbcTemplate */
+    private static JdbcTemplate jdbcDuringLoad(Runnable duringLoad) {
+        return new JdbcTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+                duringLoad.run();
+                return (List<T>) List.of("a");
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.LikeBatchRequest;
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.repository.UserRepository;
+import com.example.wetbackend.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.example.wetbackend.support.TestFixtures.newUser;
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용자별 찜 집합 캐시(LikedStateService) 테스트
+ * 한 번 읽은 집합은 DB 조회 없이 쓰고, 찜하기/찜취소 후에도 DB와 같은 상태여야 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LikedStateServiceTest {
+
+    @Autowired
+    private LikedStateService likedStateService;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void loadsLikedSetOnceThenServesFromCache() {
+        Long userId = newUser(userRepository, "liked-state");
+        RestaurantDto a = restaurant();
+        RestaurantDto b = restaurant();
+        restaurantService.toggleLike(userId, a);
+        restaurantService.toggleLike(userId, b);
+
+        QueryCounter.reset();
+        assertThat(likedStateService.likedKakaoIds(userId)).containsExactlyInAnyOrder(a.getId(), b.getId());
+        assertThat(QueryCounter.count()).isEqualTo(1);
+
+        QueryCounter.reset();
+        assertThat(likedStateService.likedKakaoIds(userId)).containsExactlyInAnyOrder(a.getId(), b.getId());
+        assertThat(QueryCounter.count()).isZero();
+    }
+
+    @Test
+    void cachedSetFollowsToggleAndBatch() {
+        Long userId = newUser(userRepository, "liked-state");
+        RestaurantDto a = restaurant();
+        RestaurantDto b = restaurant();
+        assertThat(likedStateService.likedKakaoIds(userId)).isEmpty();
+
+        restaurantService.toggleLike(userId, a);
+        restaurantService.applyLikes(userId, List.of(item(b, true)));
+        assertThat(likedStateService.likedKakaoIds(userId)).containsExactlyInAnyOrder(a.getId(), b.getId());
+
+        restaurantService.toggleLike(userId, a);
+        restaurantService.applyLikes(userId, List.of(item(b, false)));
+        assertThat(likedStateService.likedKakaoIds(userId)).isEmpty();
+
+        // 캐시를 비우고 다시 읽어도 같은 결과 (DB와 일치)
+        restaurantService.toggleLike(userId, b);
+        Set<String> cached = likedStateService.likedKakaoIds(userId);
+        likedStateService.evict(userId);
+        assertThat(likedStateService.likedKakaoIds(userId)).isEqualTo(cached).containsExactly(b.getId());
+    }
+
+    @Test
+    void markLikedReturnsCopiesWithoutTouchingSharedResults() {
+        Long userId = newUser(userRepository, "liked-state");
+        RestaurantDto liked = restaurant();
+        RestaurantDto other = restaurant();
+        restaurantService.toggleLike(userId, liked);
+
+        List<RestaurantDto> shared = List.of(liked, other);
+        assertThat(likedStateService.markLiked(userId, shared))
+                .extracting(RestaurantDto::getLiked)
+                .containsExactly(true, false);
+        assertThat(shared).extracting(RestaurantDto::getLiked).containsOnlyNulls();
+    }
+
+    @Test
+    void likeVersionChangesOnlyWhenLikesChange() {
+        Long userId = newUser(userRepository, "liked-state");
+        RestaurantDto restaurant = restaurant();
+        String version = likedStateService.likeVersion(userId);
+        assertThat(likedStateService.likeVersion(userId)).isEqualTo(version);
+
+        restaurantService.toggleLike(userId, restaurant);
+        String afterLike = likedStateService.likeVersion(userId);
+        assertThat(afterLike).isNotEqualTo(version);
+
+        // 버전은 DB 상태에서 계산하므로 이 인스턴스의 캐시를 비워도 그대로
+        likedStateService.evict(userId);
+        assertThat(likedStateService.likeVersion(userId)).isEqualTo(afterLike);
+
+        restaurantService.toggleLike(userId, restaurant);
+        assertThat(likedStateService.likeVersion(userId)).isNotEqualTo(afterLike);
+    }
+
+    @Test
+    void likeVersionOfMissingUserIsRejected() {
+        assertThatThrownBy(() -> likedStateService.likeVersion(-1L)).isInstanceOf(UserNotFoundException.class);
+    }
+
+    private static LikeBatchRequest.Item item(RestaurantDto restaurant, boolean liked) {
+        LikeBatchRequest.Item item = new LikeBatchRequest.Item();
+        item.setRestaurant(restaurant);
+        item.setLiked(liked);
+        return item;
+    }
+
+    private static RestaurantDto restaurant() {
+        String kakaoId = uniqueId("state");
+        return RestaurantDto.builder().id(kakaoId).name("찜 상태 식당 " + kakaoId).build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import com.example.wetbackend.support.TtlLruCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 논블로킹 검색의 캐시 사용 테스트
+ * 첫 페이지 결과는 별도 캐시에만 두고, 여러 페이지를 합친 검색 결과 캐시는 읽기만 해야 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReactiveSearchCacheTest {
+
+    @Autowired
+    private ReactiveKakaoMapService reactiveKakaoMapService;
+
+    @Autowired
+    private TtlLruCache<String, List<RestaurantDto>> searchResultCache;
+
+    @Autowired
+    private TtlLruCache<String, List<RestaurantDto>> firstPageSearchCache;
+
+    @Test
+    void prefersCompleteResultOverFirstPage() {
+        String query = uniqueId("reactive");
+        String key = KakaoMapService.normalizeQuery(query);
+        List<RestaurantDto> complete = List.of(restaurant("p1"), restaurant("p2"));
+        searchResultCache.put(key, complete);
+        firstPageSearchCache.put(key, List.of(restaurant("p1")));
+
+        assertThat(reactiveKakaoMapService.searchRestaurants(query).block(Duration.ofSeconds(5)))
+                .extracting(RestaurantDto::getId).containsExactly("p1", "p2");
+        assertThat(searchResultCache.peek(key)).isSameAs(complete);
+    }
+
+    @Test
+    void servesFirstPageCacheWithoutTouchingSearchResultCache() {
+        String query = uniqueId("reactive");
+        String key = KakaoMapService.normalizeQuery(query);
+        firstPageSearchCache.put(key, List.of(restaurant("p1")));
+
+        assertThat(reactiveKakaoMapService.searchRestaurants(query).block(Duration.ofSeconds(5)))
+                .extracting(RestaurantDto::getId).containsExactly("p1");
+        assertThat(searchResultCache.contains(key)).isFalse();
+    }
+
+    private static RestaurantDto restaurant(String id) {
+        return RestaurantDto.builder().id(id).name("식당 " + id).build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 식당 검색 인덱스 테스트 (스프링 컨텍스트 없이 인덱스만)
+ */
+class RestaurantSearchIndexTest {
+
+    private RestaurantSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RestaurantSearchIndex(0.8);
+        index.markReady();
+    }
+
+    @Test
+    void ranksNameMatchesAboveAddressMatches() {
+        index.add(restaurant("1", "역삼 순대국", "서울 강남구 역삼동 1", "음식점 > 한식"));
+        index.add(restaurant("2", "김밥천국", "서울 강남구 역삼동 2", "음식점 > 분식"));
+
+        assertThat(index.search("역삼", 10)).extracting(RestaurantDto::getId).containsExactly("1", "2");
+        assertThat(index.search("ㄱㅂㅊㄱ", 10)).extracting(RestaurantDto::getId).containsExactly("2");
+    }
+
+    @Test
+    void changedRestaurantIsUpdatedInPlace() {
+        index.add(restaurant("1", "김밥천국", "서울 강남구 역삼동 1", "음식점 > 분식"));
+        index.add(restaurant("1", "교촌치킨", "부산 해운대구 우동 1", "음식점 > 치킨"));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("김밥천국", 10)).isEmpty();
+        assertThat(index.search("강남구", 10)).isEmpty();
+        assertThat(index.search("교촌치킨", 10)).extracting(RestaurantDto::getName).containsExactly("교촌치킨");
+        assertThat(index.search("해운대", 10)).hasSize(1);
+    }
+
+    @Test
+    void reAddingUnchangedRestaurantKeepsIndexAsIs() {
+        RestaurantDto restaurant = restaurant("1", "김밥천국", "서울 강남구 역삼동 1", "음식점 > 분식");
+        index.add(restaurant);
+        index.add(restaurant.toBuilder().liked(true).likeCount(3L).build());
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("김밥천국", 10)).singleElement()
+                .satisfies(found -> assertThat(found.getLiked()).isNull());
+    }
+
+    @Test
+    void commonGramQueryReturnsBoundedTopHits() {
+        for (int i = 0; i < 500; i++) {
+            index.add(restaurant(String.valueOf(i), "식당 " + i, "서울 강남구 역삼동 " + i, "음식점 > 한식"));
+        }
+        index.add(restaurant("best", "강남 역삼 식당", "서울 강남구 역삼동 999", "음식점 > 한식"));
+
+        assertThat(index.search("서울 강남구 역삼동", 15)).hasSize(15)
+                .first().extracting(RestaurantDto::getId).isEqualTo("best");
+    }
+
+    @Test
+    void repeatedSearchesDoNotCarryScoresOver() {
+        for (int i = 0; i < 100; i++) {
+            index.add(restaurant(String.valueOf(i), "식당 " + i, "서울 강남구 역삼동 " + i, "음식점 > 한식"));
+        }
+        index.add(restaurant("sushi", "스시 오마카세", "서울 강남구 청담동 1", "음식점 > 일식"));
+        index.add(restaurant("sushi-2", "스시 오마카세", "서울 강남구 청담동 2", "음식점 > 일식"));
+
+        // 대부분이 나오는 검색 → 일부만 나오는 검색을 번갈아도 결과가 같아야 함 (작업 공간 재사용)
+        for (int round = 0; round < 3; round++) {
+            assertThat(index.search("서울 강남구", 5)).hasSize(5);
+            assertThat(index.search("스시 오마카세", 10)).extracting(RestaurantDto::getId)
+                    .containsExactly("sushi", "sushi-2");
+            assertThat(index.search("한식", 3)).extracting(RestaurantDto::getId).containsExactly("0", "1", "2");
+        }
+    }
+
+    private static RestaurantDto restaurant(String id, String name, String address, String category) {
+        return RestaurantDto.builder().id(id).name(name).address(address).category(category).build();
+    }
+}
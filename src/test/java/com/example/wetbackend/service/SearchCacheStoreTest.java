@@ -0,0 +1,68 @@
+package com.example.wetbackend.service;
+
+import com.example.wetbackend.model.RestaurantDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.wetbackend.support.TestFixtures.uniqueId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 결과 DB 캐시 테스트
+ * MariaDB 전용 문법(ON DUPLICATE KEY UPDATE VALUES(), DELETE ... LIMIT)이 실제로 실행되는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SearchCacheStoreTest {
+
+    @Autowired
+    private SearchCacheStore searchCacheStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void flushOverwritesExistingKey() {
+        String key = uniqueId("store");
+        searchCacheStore.save(key, List.of(RestaurantDto.builder().id("old").name("이전 결과").build()));
+        searchCacheStore.flush();
+        searchCacheStore.save(key, List.of(RestaurantDto.builder().id("new").name("새 결과").build()));
+        searchCacheStore.flush();
+
+        assertThat(searchCacheStore.find(key)).extracting(RestaurantDto::getId).containsExactly("new");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM search_cache WHERE query_key = ?", Integer.class, key))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void purgeDeletesExpiredRowsInBatches() {
+        String prefix = uniqueId("purge") + "-";
+        Timestamp past = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO search_cache (query_key, payload, result_count, fetched_at, expires_at) "
+                    + "VALUES (?, ?, 0, ?, ?)", prefix + i, new byte[0], past, past);
+        }
+        String live = prefix + "live";
+        searchCacheStore.save(live, List.of(RestaurantDto.builder().id("live").name("유효한 결과").build()));
+        searchCacheStore.flush();
+
+        int batchSize = (int) ReflectionTestUtils.getField(searchCacheStore, "purgeBatchSize");
+        ReflectionTestUtils.setField(searchCacheStore, "purgeBatchSize", 2);
+        try {
+            searchCacheStore.purgeExpired();
+        } finally {
+            ReflectionTestUtils.setField(searchCacheStore, "purgeBatchSize", batchSize);
+        }
+
+        assertThat(jdbcTemplate.queryForList("SELECT query_key FROM search_cache WHERE query_key LIKE ?",
+                String.class, prefix + "%")).containsExactly(live);
+    }
+}
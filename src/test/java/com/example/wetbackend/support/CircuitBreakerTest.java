@@ -0,0 +1,99 @@
+package com.example.wetbackend.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서킷 브레이커 상태 전이 테스트 (시간은 가짜 ticker로 진행)
+ */
+class CircuitBreakerTest {
+
+    private static final int THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker(THRESHOLD, OPEN_DURATION, now::get);
+
+    @Test
+    void opensAfterConsecutiveFailuresOnly() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess(); // 연속 실패 초기화
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.isCallPermitted()).isFalse();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void allowsSingleProbeAfterOpenDuration() {
+        open();
+        advance(OPEN_DURATION.minusMillis(1));
+        assertThat(breaker.isCallPermitted()).isFalse();
+
+        advance(Duration.ofMillis(1));
+        assertThat(breaker.isCallPermitted()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN); // 확인만으로는 허가를 소비하지 않음
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.isCallPermitted()).isFalse();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void successfulProbeCloses() {
+        open();
+        advance(OPEN_DURATION);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void failedProbeReopensForAnotherOpenDuration() {
+        open();
+        advance(OPEN_DURATION);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+
+        breaker.onFailure(); // HALF_OPEN에서는 한 번의 실패로 다시 OPEN
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        advance(OPEN_DURATION);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void rejectionsAreCountedOnlyWhenReported() {
+        open();
+        breaker.isCallPermitted();
+        breaker.tryAcquirePermission();
+        assertThat(breaker.rejectedCount()).isZero();
+
+        breaker.onRejected();
+        assertThat(breaker.rejectedCount()).isEqualTo(1);
+        assertThat(breaker.failureCount()).isEqualTo(THRESHOLD);
+    }
+
+    private void open() {
+        for (int i = 0; i < THRESHOLD; i++) {
+            breaker.onFailure();
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
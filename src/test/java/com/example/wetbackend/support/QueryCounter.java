@@ -0,0 +1,111 @@
+package com.example.wetbackend.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 테스트용 SQL 기록기
+ *
+ * DataSource를 감싸서 JDBC로 실행되는 모든 문장을 현재 스레드 기준으로 기록합니다.
+ * Hibernate(JPQL, 파생 쿼리, 네이티브 @Query)뿐 아니라 JdbcTemplate으로 실행하는 문장도 포함되며,
+ * executeBatch는 한 번의 DB 왕복으로 한 번만 기록합니다.
+ * MockMvc 요청은 테스트 스레드에서 실행되므로 reset() 후 요청을 보내면 그 요청이 실행한 문장만 남습니다.
+ * (테스트 클래스패스의 컴포넌트 스캔으로 등록되는 BeanPostProcessor)
+ */
+@Component
+public class QueryCounter implements BeanPostProcessor {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                return method.getName().equals("getConnection") ? proxyConnection((Connection) result) : result;
+            });
+        }
+        return bean;
+    }
+
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    public static int count() {
+        return STATEMENTS.get().size();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * WHERE 조건 없이 주어진 테이블을 읽는 SELECT (전체 스캔 후보)
+     */
+    public static List<String> unboundedSelects(String table) {
+        List<String> result = new ArrayList<>();
+        for (String sql : STATEMENTS.get()) {
+            String lower = sql.toLowerCase(Locale.ROOT);
+            if (lower.startsWith("select") && lower.contains(" " + table + " ") && !lower.contains(" where ")) {
+                result.add(sql);
+            }
+        }
+        return result;
+    }
+
+    private static Connection proxyConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> proxyStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> proxyStatement(CallableStatement.class, (Statement) result, (String) args[0]);
+                case "createStatement" -> proxyStatement(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        });
+    }
+
+    /**
+     * execute* 호출마다 한 번 기록 (Statement.execute(sql)처럼 SQL을 인자로 받으면 그 SQL을 기록)
+     */
+    private static <T extends Statement> T proxyStatement(Class<T> type, Statement statement, String preparedSql) {
+        return proxy(type, type.cast(statement), (target, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                STATEMENTS.get().add(sql != null ? sql : method.getName());
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            try {
+                return handler.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(QueryCounter.class.getClassLoader(), new Class<?>[] { type },
+                invocationHandler));
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object invoke(T target, Method method, Object[] args) throws Throwable;
+    }
+}
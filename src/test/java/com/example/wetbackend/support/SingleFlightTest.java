@@ -0,0 +1,112 @@
+package com.example.wetbackend.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동일 키 동시 요청 병합(SingleFlight) 테스트
+ * 같은 검색어로 동시에 들어온 N개의 요청은 카카오를 한 번만 호출해야 합니다.
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+    private final ExecutorService worker = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        callers.shutdownNow();
+        worker.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch joined = new CountDownLatch(CALLERS);
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<CompletableFuture<String>>> submitted = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            submitted.add(callers.submit(() -> {
+                start.await();
+                CompletableFuture<String> future = singleFlight.executeAsync("강남 맛집", () -> {
+                    calls.incrementAndGet();
+                    await(release); // 모든 호출자가 합류할 때까지 완료하지 않음
+                    return "result";
+                }, worker);
+                joined.countDown();
+                return future;
+            }));
+        }
+        start.countDown();
+        assertThat(joined.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        for (Future<CompletableFuture<String>> future : submitted) {
+            assertThat(future.get().get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.executionCount()).isEqualTo(1);
+        assertThat(singleFlight.sharedCount()).isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void failureReachesEveryCallerAndReleasesKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = singleFlight.executeAsync("key", () -> {
+            await(release);
+            throw new IllegalStateException("kakao down");
+        }, worker);
+        CompletableFuture<String> waiter = singleFlight.executeAsync("key", () -> "unused", worker);
+        release.countDown();
+
+        for (CompletableFuture<String> future : List.of(leader, waiter)) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        assertThat(singleFlight.inFlightCount()).isZero();
+
+        // 키가 해제되었으므로 다음 호출은 새로 실행
+        assertThat(singleFlight.executeAsync("key", () -> "retry", worker).get(5, TimeUnit.SECONDS)).isEqualTo("retry");
+        assertThat(singleFlight.executionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectedExecutionCompletesExceptionallyAndReleasesKey() {
+        CompletableFuture<String> future = singleFlight.executeAsync("key", () -> "unused", task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        assertThat(future).isCompletedExceptionally();
+        assertThatThrownBy(future::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
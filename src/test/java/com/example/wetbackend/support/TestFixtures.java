@@ -0,0 +1,31 @@
+package com.example.wetbackend.support;
+
+import com.example.wetbackend.model.User;
+import com.example.wetbackend.repository.UserRepository;
+
+import java.util.UUID;
+
+/**
+ * 테스트 데이터 헬퍼
+ *
+ * 테스트 클래스끼리 같은 스프링 컨텍스트(같은 DB)를 공유하므로 이메일, 카카오 id, 검색어가 겹치지 않도록 무작위 값을 붙입니다.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /**
+     * 이메일이 겹치지 않는 사용자를 저장하고 id를 반환합니다.
+     */
+    public static Long newUser(UserRepository userRepository, String name) {
+        return userRepository.save(new User(name, UUID.randomUUID() + "@example.com")).getId();
+    }
+
+    /**
+     * "prefix-xxxxxxxx" 형태의 겹치지 않는 값을 반환합니다. (카카오 id, 검색어 등)
+     */
+    public static String uniqueId(String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
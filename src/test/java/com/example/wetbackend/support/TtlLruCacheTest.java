@@ -0,0 +1,88 @@
+package com.example.wetbackend.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TtlLruCache 테스트 (시간은 가짜 ticker로 진행)
+ */
+class TtlLruCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void expiresAfterTtl() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, Duration.ofSeconds(60), now::get);
+        cache.put("a", "1");
+
+        advance(Duration.ofSeconds(59));
+        assertThat(cache.get("a")).isEqualTo("1");
+
+        advance(Duration.ofSeconds(1));
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+    }
+
+    @Test
+    void putWithTtlOverridesDefault() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, Duration.ofMinutes(10), now::get);
+        cache.put("partial", "1", Duration.ofSeconds(30));
+
+        advance(Duration.ofSeconds(30));
+        assertThat(cache.get("partial")).isNull();
+    }
+
+    @Test
+    void keepsExpiredValueForStaleWindow() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, Duration.ofSeconds(60), Duration.ofSeconds(120), now::get);
+        cache.put("a", "1");
+
+        advance(Duration.ofSeconds(90));
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.getStale("a")).isEqualTo("1");
+        assertThat(cache.stats().staleHits()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(90)); // ttl + staleTtl 경과
+        assertThat(cache.getStale("a")).isNull();
+        assertThat(cache.contains("a")).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(2, Duration.ofSeconds(60), now::get);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a"); // b가 가장 오래 사용되지 않은 항목이 됨
+        cache.put("c", "3");
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("1");
+        assertThat(cache.get("c")).isEqualTo("3");
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void peekDoesNotCountHitsOrMisses() {
+        TtlLruCache<String, String> cache = new TtlLruCache<>(10, Duration.ofSeconds(60), now::get);
+        cache.put("a", "1");
+
+        assertThat(cache.peek("a")).isEqualTo("1");
+        assertThat(cache.peek("missing")).isNull();
+        advance(Duration.ofSeconds(60));
+        assertThat(cache.peek("a")).isNull();
+
+        assertThat(cache.stats().hits()).isZero();
+        assertThat(cache.stats().misses()).isZero();
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}